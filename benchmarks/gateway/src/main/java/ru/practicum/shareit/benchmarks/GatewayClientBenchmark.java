@@ -0,0 +1,139 @@
+package ru.practicum.shareit.benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.CacheRegion;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ResponseCacheProperties;
+import ru.practicum.shareit.client.RestTemplateTransport;
+import ru.practicum.shareit.client.ServerTransport;
+import ru.practicum.shareit.client.WebClientTransport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/*
+ * Проксирование GET-запроса через BaseClient до локальной заглушки сервера,
+ * отдающей страницу из BOOKINGS бронирований.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GatewayClientBenchmark {
+
+    private static final int BOOKINGS = 20;
+
+    @Param({"blocking", "reactive"})
+    private String transport;
+
+    @Param({"false", "true"})
+    private boolean cached;
+
+    private HttpServer stubServer;
+
+    private ExecutorService stubExecutor;
+
+    private BenchmarkClient client;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] page = bookingsPage().getBytes(StandardCharsets.UTF_8);
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/bookings", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, page.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(page);
+            }
+        });
+        stubExecutor = Executors.newFixedThreadPool(4);
+        stubServer.setExecutor(stubExecutor);
+        stubServer.start();
+
+        String serverUrl = "http://localhost:" + stubServer.getAddress().getPort() + "/bookings";
+        CacheRegion region = null;
+        if (cached) {
+            region = new ResponseCache(new ResponseCacheProperties(), new SimpleMeterRegistry())
+                    .region("bookings", "bookings");
+        }
+        client = new BenchmarkClient(transport(serverUrl), region);
+    }
+
+    @TearDown
+    public void tearDown() {
+        stubServer.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> getOwnerBookings() {
+        return client.getOwnerBookings(1L).block();
+    }
+
+    private ServerTransport transport(String serverUrl) {
+        if ("reactive".equals(transport)) {
+            return new WebClientTransport(WebClient.builder()
+                    .uriBuilderFactory(new DefaultUriBuilderFactory(serverUrl))
+                    .build());
+        }
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(
+                HttpClients.custom().setConnectionManager(connectionManager).build());
+        return new RestTemplateTransport(new RestTemplateBuilder()
+                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl))
+                .requestFactory(() -> requestFactory)
+                .build());
+    }
+
+    private static String bookingsPage() {
+        return IntStream.rangeClosed(1, BOOKINGS)
+                .mapToObj(id -> "{\"id\":" + id + ",\"start\":\"2030-01-01T10:00:00\",\"end\":\"2030-01-02T10:00:00\","
+                        + "\"item\":{\"id\":" + id + ",\"name\":\"Дрель\",\"description\":\"Чтобы сверлить\","
+                        + "\"available\":true,\"requestId\":null},"
+                        + "\"booker\":{\"id\":2,\"name\":\"user\",\"email\":\"user@yandex.ru\"},\"status\":\"APPROVED\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    static class BenchmarkClient extends BaseClient {
+
+        BenchmarkClient(ServerTransport transport, CacheRegion cache) {
+            super(transport, cache);
+        }
+
+        Mono<ResponseEntity<Object>> getOwnerBookings(long userId) {
+            return get("/owner?state={state}", userId, Map.of("state", "ALL"));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package ru.practicum.shareit.benchmarks.load;
+
+import lombok.Getter;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/*
+ * Идентификаторы, созданные при наполнении. Вещи упорядочены по популярности: индекс 0 - самая востребованная
+ */
+@Getter
+class Dataset {
+
+    private static final long SLOT_HOURS = 2;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    /*
+     * Владельцы по убыванию числа вещей
+     */
+    private final List<Long> ownerIds = new ArrayList<>();
+
+    private final List<SeededItem> items = new ArrayList<>();
+
+    private final List<Long> requestIds = new ArrayList<>();
+
+    private final List<SeededBooking> bookings = new CopyOnWriteArrayList<>();
+
+    /*
+     * Пары бронирующий-вещь с завершённым бронированием, по которым разрешены отзывы
+     */
+    private final List<SeededBooking> completedBookings = new ArrayList<>();
+
+    /*
+     * Бронирования в статусе WAITING, которые ещё может подтвердить владелец
+     */
+    private final Queue<SeededBooking> waitingBookings = new ConcurrentLinkedQueue<>();
+
+    private final LocalDateTime slotBase = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(1);
+
+    private AtomicIntegerArray itemSlots;
+
+    void initSlots() {
+        itemSlots = new AtomicIntegerArray(items.size());
+    }
+
+    /*
+     * Непересекающиеся часовые интервалы в будущем, свои для каждой вещи
+     */
+    LocalDateTime nextSlotStart(int itemIndex) {
+        return slotBase.plusHours(itemSlots.getAndIncrement(itemIndex) * SLOT_HOURS);
+    }
+
+    long randomBooker(int itemIndex, Random random) {
+        long ownerId = items.get(itemIndex).getOwnerId();
+        long bookerId = userIds.get(random.nextInt(userIds.size()));
+        while (bookerId == ownerId) {
+            bookerId = userIds.get(random.nextInt(userIds.size()));
+        }
+        return bookerId;
+    }
+
+    @Value
+    static class SeededItem {
+        long id;
+        long ownerId;
+        String word;
+    }
+
+    @Value
+    static class SeededBooking {
+        long id;
+        long itemId;
+        long bookerId;
+        long ownerId;
+    }
+}
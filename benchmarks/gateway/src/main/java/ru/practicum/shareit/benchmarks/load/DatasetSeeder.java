@@ -0,0 +1,214 @@
+package ru.practicum.shareit.benchmarks.load;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.practicum.shareit.benchmarks.load.Dataset.SeededBooking;
+import ru.practicum.shareit.benchmarks.load.Dataset.SeededItem;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/*
+ * Наполняет базу через API шлюза, поэтому работает и с H2 в памяти сервера, и с PostgreSQL.
+ * План наполнения строится в одном потоке от зерна генератора, выполняется параллельно.
+ */
+@Slf4j
+class DatasetSeeder {
+
+    static final String[] WORDS = {"Дрель", "Бинокль", "Палатка", "Велосипед", "Самокат",
+        "Шуруповерт", "Лестница", "Пила", "Мангал", "Байдарка", "Проектор", "Гитара"};
+
+    private static final double APPROVED_SHARE = 0.6;
+
+    private static final double REJECTED_SHARE = 0.2;
+
+    private final ShareItApi api;
+
+    private final LoadTestProperties.Seed properties;
+
+    private final Random random;
+
+    /*
+     * Уникальный суффикс почты, чтобы повторный запуск против той же базы не упирался в занятые адреса
+     */
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    DatasetSeeder(ShareItApi api, LoadTestProperties.Seed properties, Random random) {
+        this.api = api;
+        this.properties = properties;
+        this.random = random;
+    }
+
+    Dataset seed() {
+        if (properties.getUsers() < 2 || properties.getOwners() < 1 || properties.getOwners() > properties.getUsers()
+                || properties.getItems() < 1) {
+            throw new IllegalArgumentException("Нужно не меньше двух пользователей, от 1 до users владельцев " +
+                    "и хотя бы одна вещь");
+        }
+        Dataset dataset = new Dataset();
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getConcurrency());
+        try {
+            seedUsers(dataset, executor);
+            seedRequests(dataset, executor);
+            seedItems(dataset, executor);
+            LocalDateTime completedEnd = seedCompletedBookings(dataset, executor);
+            seedBookings(dataset, executor);
+            seedComments(dataset, executor, completedEnd);
+        } finally {
+            executor.shutdownNow();
+        }
+        return dataset;
+    }
+
+    private void seedUsers(Dataset dataset, ExecutorService executor) {
+        List<Callable<Long>> tasks = new ArrayList<>();
+        for (int i = 0; i < properties.getUsers(); i++) {
+            Map<String, Object> user = Map.of("name", "user" + i, "email", "user" + i + "-" + runId + "@load.shareit");
+            tasks.add(() -> api.call("POST", "/users", null, user).path("id").asLong());
+        }
+        dataset.getUserIds().addAll(runAll(executor, tasks));
+        dataset.getOwnerIds().addAll(dataset.getUserIds().subList(0, properties.getOwners()));
+        log.info("Создано пользователей: {}, из них владельцев: {}", properties.getUsers(), properties.getOwners());
+    }
+
+    private void seedRequests(Dataset dataset, ExecutorService executor) {
+        List<Callable<Long>> tasks = new ArrayList<>();
+        for (int i = 0; i < properties.getRequests(); i++) {
+            long requesterId = randomUser(dataset);
+            Map<String, Object> request = Map.of("description", "Нужен " + WORDS[random.nextInt(WORDS.length)]);
+            tasks.add(() -> api.call("POST", "/requests", requesterId, request).path("id").asLong());
+        }
+        dataset.getRequestIds().addAll(runAll(executor, tasks));
+        log.info("Создано запросов вещей: {}", properties.getRequests());
+    }
+
+    private void seedItems(Dataset dataset, ExecutorService executor) {
+        ZipfSampler owners = new ZipfSampler(properties.getOwners(), properties.getOwnerSkew());
+        List<Callable<SeededItem>> tasks = new ArrayList<>();
+        for (int i = 0; i < properties.getItems(); i++) {
+            long ownerId = dataset.getOwnerIds().get(owners.next(random));
+            String word = WORDS[random.nextInt(WORDS.length)];
+            Map<String, Object> item = new HashMap<>();
+            item.put("name", word + " " + i);
+            item.put("description", word + " в хорошем состоянии");
+            item.put("available", true);
+            if (!dataset.getRequestIds().isEmpty() && random.nextDouble() < properties.getRequestAnswerShare()) {
+                item.put("requestId", dataset.getRequestIds().get(random.nextInt(dataset.getRequestIds().size())));
+            }
+            tasks.add(() -> new SeededItem(api.call("POST", "/items", ownerId, item).path("id").asLong(),
+                    ownerId, word));
+        }
+        dataset.getItems().addAll(runAll(executor, tasks));
+        dataset.initSlots();
+        log.info("Создано вещей: {}", properties.getItems());
+    }
+
+    /*
+     * По одному короткому бронированию на самые популярные вещи: к концу наполнения они завершатся
+     */
+    private LocalDateTime seedCompletedBookings(Dataset dataset, ExecutorService executor) {
+        int count = Math.min(properties.getCompletedBookings(), dataset.getItems().size());
+        LocalDateTime start = LocalDateTime.now().plusSeconds(5).plus(Duration.ofMillis(20L * count));
+        LocalDateTime end = start.plusSeconds(1);
+        List<Callable<SeededBooking>> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            SeededItem item = dataset.getItems().get(i);
+            long bookerId = dataset.randomBooker(i, random);
+            tasks.add(() -> {
+                long bookingId = api.call("POST", "/bookings", bookerId,
+                        ShareItApi.bookingBody(item.getId(), start, end)).path("id").asLong();
+                api.call("PATCH", "/bookings/" + bookingId + "?approved=true", item.getOwnerId(), null);
+                return new SeededBooking(bookingId, item.getId(), bookerId, item.getOwnerId());
+            });
+        }
+        dataset.getCompletedBookings().addAll(runAll(executor, tasks));
+        dataset.getBookings().addAll(dataset.getCompletedBookings());
+        return end;
+    }
+
+    private void seedBookings(Dataset dataset, ExecutorService executor) {
+        ZipfSampler items = new ZipfSampler(dataset.getItems().size(), properties.getItemSkew());
+        List<Callable<SeededBooking>> tasks = new ArrayList<>();
+        int waiting = 0;
+        for (int i = 0; i < properties.getBookings(); i++) {
+            int itemIndex = items.next(random);
+            SeededItem item = dataset.getItems().get(itemIndex);
+            long bookerId = dataset.randomBooker(itemIndex, random);
+            LocalDateTime start = dataset.nextSlotStart(itemIndex);
+            double decision = random.nextDouble();
+            Boolean approved = decision < APPROVED_SHARE ? Boolean.TRUE
+                    : decision < APPROVED_SHARE + REJECTED_SHARE ? Boolean.FALSE : null;
+            if (approved == null) {
+                waiting++;
+            }
+            tasks.add(() -> {
+                long bookingId = api.call("POST", "/bookings", bookerId,
+                        ShareItApi.bookingBody(item.getId(), start, start.plusHours(1))).path("id").asLong();
+                SeededBooking booking = new SeededBooking(bookingId, item.getId(), bookerId, item.getOwnerId());
+                if (approved == null) {
+                    dataset.getWaitingBookings().add(booking);
+                } else {
+                    api.call("PATCH", "/bookings/" + bookingId + "?approved=" + approved, item.getOwnerId(), null);
+                }
+                return booking;
+            });
+        }
+        dataset.getBookings().addAll(runAll(executor, tasks));
+        log.info("Создано бронирований: {}, из них ожидают подтверждения: {}", properties.getBookings(), waiting);
+    }
+
+    private void seedComments(Dataset dataset, ExecutorService executor, LocalDateTime completedEnd) {
+        if (dataset.getCompletedBookings().isEmpty()) {
+            return;
+        }
+        long waitMillis = Duration.between(LocalDateTime.now(), completedEnd).toMillis() + 1000;
+        if (waitMillis > 0) {
+            log.info("Ожидание завершения коротких бронирований: {} мс", waitMillis);
+            try {
+                Thread.sleep(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Наполнение базы прервано", e);
+            }
+        }
+        List<Callable<Long>> tasks = new ArrayList<>();
+        for (SeededBooking booking : dataset.getCompletedBookings()) {
+            Map<String, Object> comment = Map.of("text", "Всё отлично, спасибо!");
+            tasks.add(() -> api.call("POST", "/items/" + booking.getItemId() + "/comment", booking.getBookerId(),
+                    comment).path("id").asLong());
+        }
+        runAll(executor, tasks);
+        log.info("Создано отзывов: {}", tasks.size());
+    }
+
+    private long randomUser(Dataset dataset) {
+        return dataset.getUserIds().get(random.nextInt(dataset.getUserIds().size()));
+    }
+
+    private static <T> List<T> runAll(ExecutorService executor, List<Callable<T>> tasks) {
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Наполнение базы прервано", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return results;
+    }
+}
@@ -0,0 +1,139 @@
+package ru.practicum.shareit.benchmarks.load;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Задержки по эндпоинтам. Задержка считается от запланированного момента отправки, а не от фактического,
+ * чтобы очередь на стороне генератора не скрывала замедление сервиса.
+ */
+class LatencyStats {
+
+    static final String TOTAL = "ВСЕГО";
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+
+    LatencyStats() {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos, boolean success) {
+        recorders.get(operation).record(latencyNanos, success);
+    }
+
+    void dropped(Operation operation) {
+        recorders.get(operation).dropped();
+    }
+
+    void skipped(Operation operation) {
+        recorders.get(operation).skipped();
+    }
+
+    List<EndpointReport> report(Duration measured) {
+        List<EndpointReport> reports = new ArrayList<>();
+        Recorder total = new Recorder();
+        for (Map.Entry<Operation, Recorder> entry : recorders.entrySet()) {
+            Recorder recorder = entry.getValue();
+            if (recorder.isEmpty()) {
+                continue;
+            }
+            reports.add(recorder.report(entry.getKey().getEndpoint(), measured));
+            total.merge(recorder);
+        }
+        reports.add(total.report(TOTAL, measured));
+        return reports;
+    }
+
+    private static class Recorder {
+
+        private long[] latencies = new long[1024];
+
+        private int count;
+
+        private long errors;
+
+        private long dropped;
+
+        private long skipped;
+
+        synchronized void record(long latencyNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized void dropped() {
+            dropped++;
+        }
+
+        synchronized void skipped() {
+            skipped++;
+        }
+
+        synchronized boolean isEmpty() {
+            return count == 0 && dropped == 0 && skipped == 0;
+        }
+
+        synchronized void merge(Recorder other) {
+            synchronized (other) {
+                for (int i = 0; i < other.count; i++) {
+                    record(other.latencies[i], true);
+                }
+                errors += other.errors;
+                dropped += other.dropped;
+                skipped += other.skipped;
+            }
+        }
+
+        synchronized EndpointReport report(String endpoint, Duration measured) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            double seconds = Math.max(measured.toMillis(), 1) / 1000.0;
+            return new EndpointReport(endpoint, count, count / seconds, errors, dropped, skipped,
+                    percentile(sorted, 0.5), percentile(sorted, 0.9), percentile(sorted, 0.99),
+                    percentile(sorted, 0.999), count == 0 ? 0 : toMillis(sorted[count - 1]));
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length) - 1;
+            return toMillis(sorted[Math.max(rank, 0)]);
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    /*
+     * Задержки в миллисекундах, пропускная способность - в запросах в секунду
+     */
+    @Value
+    static class EndpointReport {
+        String endpoint;
+        long requests;
+        double throughput;
+        long errors;
+        long dropped;
+        long skipped;
+        double p50;
+        double p90;
+        double p99;
+        double p999;
+        double max;
+    }
+}
@@ -0,0 +1,233 @@
+package ru.practicum.shareit.benchmarks.load;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import ru.practicum.shareit.benchmarks.load.Dataset.SeededBooking;
+import ru.practicum.shareit.benchmarks.load.Dataset.SeededItem;
+
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/*
+ * Открытая модель нагрузки: запросы отправляются по расписанию с заданной частотой независимо от того,
+ * успели ли ответить предыдущие. Выбор операций и их параметров - в одном потоке диспетчера.
+ */
+@Slf4j
+class LoadGenerator {
+
+    private static final String[] STATES = {"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"};
+
+    private static final int PAGE_SIZE = 10;
+
+    private static final double APPROVE_SHARE = 0.75;
+
+    private final ShareItApi api;
+
+    private final Dataset dataset;
+
+    private final LoadTestProperties.Workload properties;
+
+    private final Random random;
+
+    private final ZipfSampler items;
+
+    private final ZipfSampler owners;
+
+    private final List<Operation> operations = new ArrayList<>();
+
+    private final List<Integer> cumulativeWeights = new ArrayList<>();
+
+    LoadGenerator(ShareItApi api, Dataset dataset, LoadTestProperties.Workload properties,
+                  double itemSkew, double ownerSkew, Random random) {
+        this.api = api;
+        this.dataset = dataset;
+        this.properties = properties;
+        this.random = random;
+        this.items = new ZipfSampler(dataset.getItems().size(), itemSkew);
+        this.owners = new ZipfSampler(dataset.getOwnerIds().size(), ownerSkew);
+        int sum = 0;
+        for (Map.Entry<Operation, Integer> entry : properties.getMix().entrySet()) {
+            if (entry.getValue() > 0) {
+                sum += entry.getValue();
+                operations.add(entry.getKey());
+                cumulativeWeights.add(sum);
+            }
+        }
+        if (operations.isEmpty() || properties.getRps() < 1 || properties.getMaxInFlight() < 1) {
+            throw new IllegalArgumentException("Нужна хотя бы одна операция с положительным весом, " +
+                    "положительные rps и max-in-flight");
+        }
+    }
+
+    LatencyStats run() throws InterruptedException {
+        LatencyStats stats = new LatencyStats();
+        Semaphore inFlight = new Semaphore(properties.getMaxInFlight());
+        long start = System.nanoTime();
+        long measureStart = start + properties.getWarmup().toNanos();
+        long end = measureStart + properties.getDuration().toNanos();
+        log.info("Нагрузка {} запросов/с: прогрев {}, замер {}",
+                properties.getRps(), properties.getWarmup(), properties.getDuration());
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * 1_000_000_000L / properties.getRps();
+            if (intended >= end) {
+                break;
+            }
+            for (long now = System.nanoTime(); now < intended; now = System.nanoTime()) {
+                LockSupport.parkNanos(intended - now);
+            }
+            boolean measured = intended >= measureStart;
+            Operation operation = nextOperation();
+            PreparedRequest request = prepare(operation);
+            if (request == null) {
+                if (measured) {
+                    stats.skipped(operation);
+                }
+                continue;
+            }
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    stats.dropped(operation);
+                }
+                continue;
+            }
+            api.sendAsync(request.getMethod(), request.getPath(), request.getUserId(), request.getBody())
+                    .whenComplete((response, error) -> {
+                        long latency = System.nanoTime() - intended;
+                        inFlight.release();
+                        boolean success = error == null && response.statusCode() / 100 == 2;
+                        if (success && request.getOnSuccess() != null) {
+                            request.getOnSuccess().accept(response);
+                        }
+                        if (measured) {
+                            stats.record(operation, latency, success);
+                        }
+                    });
+        }
+        if (!inFlight.tryAcquire(properties.getMaxInFlight(), 30, TimeUnit.SECONDS)) {
+            log.warn("Не дождались ответа на {} запросов", properties.getMaxInFlight() - inFlight.availablePermits());
+        }
+        return stats;
+    }
+
+    private Operation nextOperation() {
+        int point = random.nextInt(cumulativeWeights.get(cumulativeWeights.size() - 1));
+        for (int i = 0; i < operations.size(); i++) {
+            if (point < cumulativeWeights.get(i)) {
+                return operations.get(i);
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    /*
+     * null - операцию сейчас не из чего собрать, например нет бронирований в ожидании подтверждения
+     */
+    private PreparedRequest prepare(Operation operation) {
+        switch (operation) {
+            case GET_ITEM:
+                return get("/items/" + hotItem().getId(), randomUser());
+            case LIST_OWNER_ITEMS:
+                return get("/items?from=" + randomPage() + "&size=" + PAGE_SIZE, hotOwner());
+            case SEARCH_ITEMS:
+                String text = DatasetSeeder.WORDS[random.nextInt(DatasetSeeder.WORDS.length)];
+                return get("/items/search?text=" + URLEncoder.encode(text, StandardCharsets.UTF_8)
+                        + "&from=0&size=" + PAGE_SIZE, randomUser());
+            case GET_BOOKING:
+                SeededBooking booking = dataset.getBookings().get(random.nextInt(dataset.getBookings().size()));
+                return get("/bookings/" + booking.getId(), booking.getBookerId());
+            case LIST_USER_BOOKINGS:
+                return get("/bookings?state=" + randomState() + "&from=0&size=" + PAGE_SIZE, randomUser());
+            case LIST_OWNER_BOOKINGS:
+                return get("/bookings/owner?state=" + randomState() + "&from=0&size=" + PAGE_SIZE, hotOwner());
+            case LIST_ALL_REQUESTS:
+                return get("/requests/all?from=" + randomPage() + "&size=" + PAGE_SIZE, randomUser());
+            case GET_USER:
+                return get("/users/" + randomUser(), null);
+            case CREATE_BOOKING:
+                return createBooking();
+            case APPROVE_BOOKING:
+                SeededBooking waiting = dataset.getWaitingBookings().poll();
+                if (waiting == null) {
+                    return null;
+                }
+                return new PreparedRequest("PATCH", "/bookings/" + waiting.getId() + "?approved="
+                        + (random.nextDouble() < APPROVE_SHARE), waiting.getOwnerId(), null, null);
+            case CREATE_ITEM:
+                String word = DatasetSeeder.WORDS[random.nextInt(DatasetSeeder.WORDS.length)];
+                return new PreparedRequest("POST", "/items", hotOwner(), Map.of("name", word,
+                        "description", word + " почти новый", "available", true), null);
+            case CREATE_REQUEST:
+                return new PreparedRequest("POST", "/requests", randomUser(),
+                        Map.of("description", "Ищу " + DatasetSeeder.WORDS[random.nextInt(DatasetSeeder.WORDS.length)]),
+                        null);
+            case CREATE_COMMENT:
+                if (dataset.getCompletedBookings().isEmpty()) {
+                    return null;
+                }
+                SeededBooking completed = dataset.getCompletedBookings()
+                        .get(random.nextInt(dataset.getCompletedBookings().size()));
+                return new PreparedRequest("POST", "/items/" + completed.getItemId() + "/comment",
+                        completed.getBookerId(), Map.of("text", "Пользуюсь снова"), null);
+            default:
+                throw new IllegalArgumentException("Неизвестная операция " + operation);
+        }
+    }
+
+    private PreparedRequest createBooking() {
+        int itemIndex = items.next(random);
+        SeededItem item = dataset.getItems().get(itemIndex);
+        long bookerId = dataset.randomBooker(itemIndex, random);
+        LocalDateTime start = dataset.nextSlotStart(itemIndex);
+        Consumer<HttpResponse<String>> onSuccess = response -> {
+            SeededBooking booking = new SeededBooking(api.readId(response), item.getId(), bookerId, item.getOwnerId());
+            dataset.getBookings().add(booking);
+            dataset.getWaitingBookings().add(booking);
+        };
+        return new PreparedRequest("POST", "/bookings", bookerId,
+                ShareItApi.bookingBody(item.getId(), start, start.plusHours(1)), onSuccess);
+    }
+
+    private PreparedRequest get(String path, Long userId) {
+        return new PreparedRequest("GET", path, userId, null, null);
+    }
+
+    private SeededItem hotItem() {
+        return dataset.getItems().get(items.next(random));
+    }
+
+    private long hotOwner() {
+        return dataset.getOwnerIds().get(owners.next(random));
+    }
+
+    private long randomUser() {
+        return dataset.getUserIds().get(random.nextInt(dataset.getUserIds().size()));
+    }
+
+    private String randomState() {
+        return STATES[random.nextInt(STATES.length)];
+    }
+
+    private int randomPage() {
+        return random.nextInt(3) * PAGE_SIZE;
+    }
+
+    @Value
+    private static class PreparedRequest {
+        String method;
+        String path;
+        Long userId;
+        Object body;
+        Consumer<HttpResponse<String>> onSuccess;
+    }
+}
@@ -0,0 +1,80 @@
+package ru.practicum.shareit.benchmarks.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.benchmarks.load.LatencyStats.EndpointReport;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.Random;
+
+/*
+ * Генератор нагрузки на запущенный шлюз ShareIt: наполняет базу и воспроизводит смешанный поток
+ * чтения и записи. Настройки - свойства shareit-load.*, например --shareit-load.workload.rps=200
+ */
+@Slf4j
+@SpringBootConfiguration
+@EnableConfigurationProperties(LoadTestProperties.class)
+public class LoadTestApplication {
+
+    private static final String ROW_FORMAT = "%-30s %9s %9s %7s %7s %7s %9s %9s %9s %9s %9s";
+
+    public static void main(String[] args) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .properties("logging.level.ru.practicum.shareit.benchmarks.load=info")
+                .run(args)) {
+            run(context.getBean(LoadTestProperties.class));
+        }
+    }
+
+    static void run(LoadTestProperties properties) throws InterruptedException, IOException {
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getRequestTimeout())
+                .build();
+        ShareItApi api = new ShareItApi(httpClient, properties.getGatewayUrl(), properties.getRequestTimeout(),
+                objectMapper);
+        Random random = new Random(properties.getRandomSeed());
+
+        long seedStart = System.currentTimeMillis();
+        Dataset dataset = new DatasetSeeder(api, properties.getSeed(), random).seed();
+        log.info("Наполнение базы заняло {} мс", System.currentTimeMillis() - seedStart);
+
+        LoadTestProperties.Workload workload = properties.getWorkload();
+        if (workload.getDuration().isZero()) {
+            return;
+        }
+        LatencyStats stats = new LoadGenerator(api, dataset, workload, properties.getSeed().getItemSkew(),
+                properties.getSeed().getOwnerSkew(), random).run();
+        List<EndpointReport> reports = stats.report(workload.getDuration());
+        printReport(reports);
+        if (!workload.getReportFile().isBlank()) {
+            objectMapper.writeValue(new File(workload.getReportFile()), reports);
+            log.info("Отчёт сохранён в {}", workload.getReportFile());
+        }
+    }
+
+    private static void printReport(List<EndpointReport> reports) {
+        log.info(String.format(ROW_FORMAT, "Эндпоинт", "Запросов", "Запр/с", "Ошибок", "Отброш", "Пропущ",
+                "p50, мс", "p90, мс", "p99, мс", "p99.9, мс", "max, мс"));
+        for (EndpointReport report : reports) {
+            log.info(String.format(ROW_FORMAT, report.getEndpoint(), report.getRequests(),
+                    String.format("%.1f", report.getThroughput()), report.getErrors(), report.getDropped(),
+                    report.getSkipped(), String.format("%.2f", report.getP50()), String.format("%.2f", report.getP90()),
+                    String.format("%.2f", report.getP99()), String.format("%.2f", report.getP999()),
+                    String.format("%.2f", report.getMax())));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package ru.practicum.shareit.benchmarks.load;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-load")
+public class LoadTestProperties {
+
+    private String gatewayUrl = "http://localhost:8080";
+
+    /*
+     * Зерно генератора: при одинаковых настройках план наполнения и последовательность запросов повторяются
+     */
+    private long randomSeed = 42;
+
+    private Duration requestTimeout = Duration.ofSeconds(10);
+
+    private final Seed seed = new Seed();
+
+    private final Workload workload = new Workload();
+
+    @Getter
+    @Setter
+    public static class Seed {
+
+        private int users = 200;
+
+        /*
+         * Вещи распределяются только между первыми owners пользователями
+         */
+        private int owners = 20;
+
+        /*
+         * Показатель распределения Ципфа для числа вещей у владельца: чем больше, тем сильнее перекос
+         */
+        private double ownerSkew = 1.2;
+
+        private int items = 5000;
+
+        private int requests = 300;
+
+        /*
+         * Доля вещей, созданных в ответ на запрос
+         */
+        private double requestAnswerShare = 0.3;
+
+        private int bookings = 5000;
+
+        /*
+         * Показатель распределения Ципфа для популярности вещей при бронировании и чтении
+         */
+        private double itemSkew = 1.1;
+
+        /*
+         * Короткие бронирования, которые успевают завершиться во время наполнения и получают отзывы
+         */
+        private int completedBookings = 100;
+
+        private int concurrency = 16;
+    }
+
+    @Getter
+    @Setter
+    public static class Workload {
+
+        private int rps = 100;
+
+        private Duration warmup = Duration.ofSeconds(10);
+
+        /*
+         * Нулевая длительность - только наполнение базы
+         */
+        private Duration duration = Duration.ofSeconds(60);
+
+        /*
+         * Запросы сверх лимита одновременно выполняемых не отправляются и учитываются как отброшенные
+         */
+        private int maxInFlight = 256;
+
+        private Map<Operation, Integer> mix = defaultMix();
+
+        /*
+         * Файл для отчёта в JSON, пустое значение - только вывод в лог
+         */
+        private String reportFile = "";
+
+        private static Map<Operation, Integer> defaultMix() {
+            Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+            mix.put(Operation.GET_ITEM, 25);
+            mix.put(Operation.LIST_OWNER_ITEMS, 10);
+            mix.put(Operation.SEARCH_ITEMS, 10);
+            mix.put(Operation.GET_BOOKING, 8);
+            mix.put(Operation.LIST_USER_BOOKINGS, 10);
+            mix.put(Operation.LIST_OWNER_BOOKINGS, 10);
+            mix.put(Operation.LIST_ALL_REQUESTS, 4);
+            mix.put(Operation.GET_USER, 5);
+            mix.put(Operation.CREATE_BOOKING, 8);
+            mix.put(Operation.APPROVE_BOOKING, 5);
+            mix.put(Operation.CREATE_ITEM, 2);
+            mix.put(Operation.CREATE_REQUEST, 1);
+            mix.put(Operation.CREATE_COMMENT, 2);
+            return mix;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.benchmarks.load;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum Operation {
+    GET_ITEM("GET /items/{itemId}"),
+    LIST_OWNER_ITEMS("GET /items"),
+    SEARCH_ITEMS("GET /items/search"),
+    GET_BOOKING("GET /bookings/{bookingId}"),
+    LIST_USER_BOOKINGS("GET /bookings"),
+    LIST_OWNER_BOOKINGS("GET /bookings/owner"),
+    LIST_ALL_REQUESTS("GET /requests/all"),
+    GET_USER("GET /users/{id}"),
+    CREATE_BOOKING("POST /bookings"),
+    APPROVE_BOOKING("PATCH /bookings/{bookingId}"),
+    CREATE_ITEM("POST /items"),
+    CREATE_REQUEST("POST /requests"),
+    CREATE_COMMENT("POST /items/{itemId}/comment");
+
+    private final String endpoint;
+}
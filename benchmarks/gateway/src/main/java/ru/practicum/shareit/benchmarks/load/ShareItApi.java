@@ -0,0 +1,105 @@
+package ru.practicum.shareit.benchmarks.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/*
+ * Тонкий HTTP-клиент к шлюзу ShareIt: тело запроса сериализуется в JSON, пользователь передаётся заголовком
+ */
+class ShareItApi {
+
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final HttpClient httpClient;
+
+    private final String gatewayUrl;
+
+    private final Duration requestTimeout;
+
+    private final ObjectMapper objectMapper;
+
+    ShareItApi(HttpClient httpClient, String gatewayUrl, Duration requestTimeout, ObjectMapper objectMapper) {
+        this.httpClient = httpClient;
+        this.gatewayUrl = gatewayUrl.endsWith("/") ? gatewayUrl.substring(0, gatewayUrl.length() - 1) : gatewayUrl;
+        this.requestTimeout = requestTimeout;
+        this.objectMapper = objectMapper;
+    }
+
+    CompletableFuture<HttpResponse<String>> sendAsync(String method, String path, Long userId, Object body) {
+        return httpClient.sendAsync(request(method, path, userId, body), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /*
+     * Синхронный вызов для наполнения базы: любой ответ, кроме 2xx, прерывает наполнение
+     */
+    JsonNode call(String method, String path, Long userId, Object body) {
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request(method, path, userId, body), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format("Шлюз %s недоступен: %s", gatewayUrl, e), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Наполнение базы прервано", e);
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(String.format("%s %s вернул %d: %s",
+                    method, path, response.statusCode(), response.body()));
+        }
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(String.format("%s %s вернул некорректный JSON", method, path), e);
+        }
+    }
+
+    static Map<String, Object> bookingBody(long itemId, LocalDateTime start, LocalDateTime end) {
+        return Map.of("itemId", itemId, "start", start.format(DATE_TIME_FORMAT), "end", end.format(DATE_TIME_FORMAT));
+    }
+
+    long readId(HttpResponse<String> response) {
+        try {
+            return objectMapper.readTree(response.body()).path("id").asLong();
+        } catch (JsonProcessingException e) {
+            return 0;
+        }
+    }
+
+    private HttpRequest request(String method, String path, Long userId, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(gatewayUrl + path))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json");
+        if (userId != null) {
+            builder.header(USER_HEADER, String.valueOf(userId));
+        }
+        if (body == null) {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(toJson(body)));
+        }
+        return builder.build();
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Не удалось сериализовать тело запроса", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.benchmarks.load;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/*
+ * Выбор ранга 0..size-1 с вероятностью, обратной (ранг + 1) в степени exponent: ранг 0 - самый популярный
+ */
+class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int size, double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Размер распределения должен быть положительным");
+        }
+        cumulative = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += 1 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    int next(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,104 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.comments.dto.CommentResponse;
+import ru.practicum.shareit.comments.model.Comment;
+import ru.practicum.shareit.enums.BookingStatus;
+import ru.practicum.shareit.item.dto.ItemDtoOut;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.mapper.BookingMapper;
+import ru.practicum.shareit.mapper.CommentMapper;
+import ru.practicum.shareit.mapper.ItemMapper;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Преобразование списков сущностей в DTO, без базы данных.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private List<Item> items;
+
+    private List<Booking> bookings;
+
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        User owner = new User(1L, "owner", "owner@yandex.ru");
+        items = new ArrayList<>(size);
+        bookings = new ArrayList<>(size);
+        comments = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            User booker = new User(i + 1, "user" + i, "user" + i + "@yandex.ru");
+            ItemRequest request = new ItemRequest();
+            request.setId(i);
+            Item item = Item.builder()
+                    .id(i)
+                    .name("Дрель " + i)
+                    .description("Чтобы сверлить")
+                    .available(true)
+                    .owner(owner)
+                    .request(request)
+                    .build();
+            items.add(item);
+            bookings.add(Booking.builder()
+                    .id(i)
+                    .start(now.plusDays(i))
+                    .end(now.plusDays(i + 1))
+                    .item(item)
+                    .booker(booker)
+                    .status(BookingStatus.APPROVED)
+                    .build());
+            comments.add(Comment.builder()
+                    .id(i)
+                    .text("Отличная дрель")
+                    .item(item)
+                    .author(booker)
+                    .created(now)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<ItemDtoOut> itemDtoOutList() {
+        return ItemMapper.toItemDtoOutList(items);
+    }
+
+    @Benchmark
+    public List<BookingResponse> bookingResponseList() {
+        return BookingMapper.toBookingResponseList(bookings);
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentResponseList() {
+        return CommentMapper.toCommentResponseList(comments);
+    }
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/*
+ * Контекст сервера без веб-слоя: главный класс сервера и сами бенчмарки исключаются из сканирования.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan("ru.practicum.shareit")
+@EnableJpaRepositories("ru.practicum.shareit")
+@ComponentScan(basePackages = "ru.practicum.shareit", excludeFilters = @ComponentScan.Filter(
+        type = FilterType.REGEX,
+        pattern = {
+                "ru\\.practicum\\.shareit\\.ShareIt.*",
+                "ru\\.practicum\\.shareit\\.benchmarks\\..*"
+        }))
+public class ServerBenchmarkApplication {
+}
@@ -0,0 +1,132 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingRequestParams;
+import ru.practicum.shareit.enums.BookingStatus;
+import ru.practicum.shareit.enums.States;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDtoOut;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Сервисы сервера на H2, заполненной одним владельцем с ITEMS вещами и BOOKINGS_PER_ITEM бронированиями на каждую.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServerServiceBenchmark {
+
+    private static final int ITEMS = 200;
+
+    private static final int BOOKERS = 20;
+
+    private static final int BOOKINGS_PER_ITEM = 5;
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+
+    private ItemService itemService;
+
+    private BookingService bookingService;
+
+    private UserService userService;
+
+    private long ownerId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ServerBenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("logging.level.root=warn")
+                .run();
+        itemService = context.getBean(ItemService.class);
+        bookingService = context.getBean(BookingService.class);
+        userService = context.getBean(UserService.class);
+        seed(context.getBean(UserRepository.class), context.getBean(ItemRepository.class),
+                context.getBean(BookingRepository.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ItemDtoOut> getAllUserItemsDto() {
+        return itemService.getAllUserItemsDto(ownerId, 0, pageSize);
+    }
+
+    @Benchmark
+    public List<BookingResponse> getAllOwnerBookings() {
+        return bookingService.getAllOwnerBookings(new BookingRequestParams(States.ALL, ownerId, 0, pageSize));
+    }
+
+    @Benchmark
+    public void checkUserExists() {
+        userService.checkUserExists(ownerId);
+    }
+
+    private void seed(UserRepository userRepository, ItemRepository itemRepository,
+                      BookingRepository bookingRepository) {
+        User owner = userRepository.save(new User("owner", "owner@yandex.ru"));
+        ownerId = owner.getId();
+        List<User> bookers = new ArrayList<>(BOOKERS);
+        for (int i = 0; i < BOOKERS; i++) {
+            bookers.add(userRepository.save(new User("user" + i, "user" + i + "@yandex.ru")));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Booking> bookings = new ArrayList<>(ITEMS * BOOKINGS_PER_ITEM);
+        for (int i = 0; i < ITEMS; i++) {
+            Item item = itemRepository.save(Item.builder()
+                    .name("Дрель " + i)
+                    .description("Чтобы сверлить")
+                    .available(true)
+                    .owner(owner)
+                    .build());
+            for (int j = 0; j < BOOKINGS_PER_ITEM; j++) {
+                LocalDateTime start = now.plusDays((long) (j - BOOKINGS_PER_ITEM / 2) * 2);
+                bookings.add(Booking.builder()
+                        .start(start)
+                        .end(start.plusDays(1))
+                        .item(item)
+                        .booker(bookers.get((i + j) % BOOKERS))
+                        .status(BookingStatus.APPROVED)
+                        .build());
+            }
+        }
+        bookingRepository.saveAll(bookings);
+    }
+}
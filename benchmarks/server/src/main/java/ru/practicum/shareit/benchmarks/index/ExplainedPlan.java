@@ -0,0 +1,50 @@
+package ru.practicum.shareit.benchmarks.index;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/*
+ * Индексы и последовательные чтения из плана PostgreSQL в формате EXPLAIN (FORMAT JSON)
+ */
+@Getter
+class ExplainedPlan {
+
+    private final List<String> indexes = new ArrayList<>();
+
+    private final List<String> seqScans = new ArrayList<>();
+
+    private final double totalCost;
+
+    ExplainedPlan(JsonNode explain) {
+        JsonNode plan = explain.get(0).get("Plan");
+        totalCost = plan.path("Total Cost").asDouble();
+        collect(plan);
+    }
+
+    boolean usesIndex(String index) {
+        return indexes.contains(index.toLowerCase(Locale.ROOT));
+    }
+
+    boolean scansSequentially(String table) {
+        return seqScans.contains(table.toLowerCase(Locale.ROOT));
+    }
+
+    private void collect(JsonNode node) {
+        if (node.has("Index Name")) {
+            String index = node.get("Index Name").asText().toLowerCase(Locale.ROOT);
+            if (!indexes.contains(index)) {
+                indexes.add(index);
+            }
+        }
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            seqScans.add(node.path("Relation Name").asText().toLowerCase(Locale.ROOT));
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collect(child);
+        }
+    }
+}
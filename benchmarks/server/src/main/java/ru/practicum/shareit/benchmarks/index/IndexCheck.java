@@ -0,0 +1,78 @@
+package ru.practicum.shareit.benchmarks.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * SQL, который Hibernate строит для запросов репозиториев, и индекс, по которому он должен выполняться.
+ * Параметры именованные, значения берёт SampleParameters из наполненной базы
+ */
+@Getter
+@RequiredArgsConstructor
+public enum IndexCheck {
+    BOOKER_ALL("BookingRepository.findByBookerIdOrderByStartDesc", "bookings", "idx_bookings_booker_start",
+            "SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id " +
+                    "WHERE b.booker_id = :bookerId ORDER BY b.start_date DESC LIMIT :limit"),
+    BOOKER_PAST("BookingRepository.findByBookerIdPast", "bookings", "idx_bookings_booker_start",
+            "SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id " +
+                    "WHERE b.booker_id = :bookerId AND b.end_date < :now ORDER BY b.start_date DESC LIMIT :limit"),
+    BOOKER_WAITING("BookingRepository.findByBookerIdWaiting", "bookings", "idx_bookings_booker_status_start",
+            "SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id " +
+                    "WHERE b.booker_id = :bookerId AND b.status = 'WAITING' ORDER BY b.start_date DESC LIMIT :limit"),
+    BOOKER_ALL_KEYSET("BookingRepository.findByBookerIdAllKeyset", "bookings", "idx_bookings_booker_start",
+            "SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id " +
+                    "WHERE b.booker_id = :bookerId " +
+                    "AND (b.start_date < :cursorStart OR (b.start_date = :cursorStart AND b.id < :cursorId)) " +
+                    "ORDER BY b.start_date DESC, b.id DESC LIMIT :limit"),
+    OWNER_ALL("BookingRepository.findByOwnerIdAll", "bookings", "idx_items_owner",
+            "SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id " +
+                    "WHERE i.owner_id = :ownerId ORDER BY b.start_date DESC LIMIT :limit"),
+    OWNER_WAITING("BookingRepository.findByOwnerIdWaiting", "bookings", "idx_items_owner",
+            "SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id " +
+                    "WHERE i.owner_id = :ownerId AND b.status = 'WAITING' ORDER BY b.start_date DESC LIMIT :limit"),
+    LAST_BOOKING_FOR_ITEM("BookingRepository.findLastBookingForItem", "bookings", "idx_bookings_item_start",
+            "SELECT b.id, b.booker_id FROM bookings b " +
+                    "WHERE b.item_id = :itemId AND b.start_date < :now ORDER BY b.end_date DESC LIMIT 1"),
+    LAST_BOOKINGS_FOR_ITEMS("BookingRepository.findLastBookingsForItems", "bookings", "idx_bookings_item_start",
+            "SELECT b.* FROM bookings b WHERE b.item_id IN (:itemIds) AND b.start_date < :now " +
+                    "AND b.end_date = (SELECT MAX(l.end_date) FROM bookings l " +
+                    "WHERE l.item_id = b.item_id AND l.start_date < :now)"),
+    NEXT_BOOKINGS_FOR_ITEMS("BookingRepository.findNextBookingsForItems", "bookings", "idx_bookings_item_start",
+            "SELECT b.* FROM bookings b WHERE b.item_id IN (:itemIds) AND b.start_date > :now " +
+                    "AND b.end_date = (SELECT MIN(n.end_date) FROM bookings n " +
+                    "WHERE n.item_id = b.item_id AND n.start_date > :now)"),
+    BOOKER_ITEM_FINISHED("BookingRepository.findAllByBookerIdAndItemIdAndAfterEnd", "bookings", null,
+            "SELECT b.* FROM bookings b " +
+                    "WHERE b.item_id = :itemId AND b.booker_id = :bookerId AND b.end_date < :now"),
+    AVAILABILITY("BookingRepository.isAvailableForBooking", "bookings", "idx_bookings_availability",
+            "SELECT COUNT(b.id) > 0 FROM bookings b WHERE b.item_id = :itemId AND b.status = 'APPROVED' " +
+                    "AND b.end_date >= :now AND b.start_date <= :now"),
+    OWNER_ITEMS("ItemRepository.findAllByOwnerIdOrderByIdAsc", "items", "idx_items_owner",
+            "SELECT i.* FROM items i WHERE i.owner_id = :ownerId ORDER BY i.id ASC LIMIT :limit"),
+    REQUEST_ITEMS("ItemRepository.findByRequestIdIn", "items", "idx_items_request",
+            "SELECT i.* FROM items i WHERE i.request_id IN (:requestIds) ORDER BY i.id ASC"),
+    ITEM_COMMENTS("CommentRepository.findAllByItemId", "comments", "idx_comments_item",
+            "SELECT c.* FROM comments c WHERE c.item_id = :itemId"),
+    REQUESTER_REQUESTS("ItemRequestRepository.findAllByRequesterIdOrderByCreatedDesc", "requests",
+            "idx_requests_requester_created",
+            "SELECT r.*, u.* FROM requests r JOIN users u ON u.id = r.requester_id " +
+                    "WHERE u.id = :requesterId ORDER BY r.created DESC"),
+    OTHER_REQUESTS("ItemRequestRepository.findAllByRequesterIdNotOrderByCreatedDesc", "requests",
+            "idx_requests_created",
+            "SELECT r.*, u.* FROM requests r JOIN users u ON u.id = r.requester_id " +
+                    "WHERE u.id <> :requesterId ORDER BY r.created DESC LIMIT :limit");
+
+    private final String query;
+
+    /*
+     * Таблица, которую запрос не должен читать целиком
+     */
+    private final String table;
+
+    /*
+     * Пустое значение - подходит любой индекс, лишь бы не было Seq Scan по таблице
+     */
+    private final String expectedIndex;
+
+    private final String sql;
+}
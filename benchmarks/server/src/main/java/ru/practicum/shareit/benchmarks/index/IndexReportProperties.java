@@ -0,0 +1,37 @@
+package ru.practicum.shareit.benchmarks.index;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-index")
+public class IndexReportProperties {
+
+    private String url = "jdbc:postgresql://localhost:5432/shareit";
+
+    private String username = "postgres";
+
+    private String password = "";
+
+    /*
+     * Обновить статистику таблиц перед EXPLAIN: сразу после наполнения планировщик её ещё не видит
+     */
+    private boolean analyze = true;
+
+    /*
+     * Размер страницы в запросах со списками, как size по умолчанию в контроллерах
+     */
+    private int pageSize = 5;
+
+    /*
+     * Завершаться с ошибкой, если хотя бы один запрос идёт мимо ожидаемого индекса
+     */
+    private boolean failOnMiss = true;
+
+    /*
+     * Файл для отчёта в JSON, пустое значение - только вывод в лог
+     */
+    private String reportFile = "";
+}
@@ -0,0 +1,90 @@
+package ru.practicum.shareit.benchmarks.index;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Отчёт об использовании индексов: EXPLAIN запросов репозиториев на базе PostgreSQL, наполненной
+ * генератором нагрузки. Настройки - свойства shareit-index.*, например --shareit-index.url=jdbc:postgresql://...
+ */
+@Slf4j
+@SpringBootConfiguration
+@EnableConfigurationProperties(IndexReportProperties.class)
+public class IndexUsageReportApplication {
+
+    private static final String ROW_FORMAT = "%-4s %-62s %-34s %-60s %s";
+
+    public static void main(String[] args) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(IndexUsageReportApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .properties("logging.level.ru.practicum.shareit.benchmarks.index=info")
+                .run(args)) {
+            run(context.getBean(IndexReportProperties.class));
+        }
+    }
+
+    static void run(IndexReportProperties properties) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(
+                new DriverManagerDataSource(properties.getUrl(), properties.getUsername(), properties.getPassword()));
+        if (properties.isAnalyze()) {
+            jdbcTemplate.getJdbcTemplate().execute("ANALYZE");
+        }
+        MapSqlParameterSource parameters = SampleParameters.load(jdbcTemplate, properties.getPageSize());
+
+        List<CheckResult> results = new ArrayList<>();
+        for (IndexCheck check : IndexCheck.values()) {
+            String explain = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + check.getSql(), parameters,
+                    String.class);
+            ExplainedPlan plan = new ExplainedPlan(objectMapper.readTree(explain));
+            boolean indexed = check.getExpectedIndex() == null || plan.usesIndex(check.getExpectedIndex());
+            results.add(new CheckResult(check.getQuery(), check.getExpectedIndex(), plan.getIndexes(),
+                    plan.getSeqScans(), plan.getTotalCost(), indexed && !plan.scansSequentially(check.getTable())));
+        }
+        printReport(results);
+        if (!properties.getReportFile().isBlank()) {
+            objectMapper.writeValue(new File(properties.getReportFile()), results);
+            log.info("Отчёт сохранён в {}", properties.getReportFile());
+        }
+        long misses = results.stream().filter(result -> !result.isOk()).count();
+        if (misses > 0 && properties.isFailOnMiss()) {
+            throw new IllegalStateException("Запросов мимо ожидаемого индекса: " + misses);
+        }
+    }
+
+    private static void printReport(List<CheckResult> results) {
+        log.info(String.format(ROW_FORMAT, "", "Запрос", "Ожидаемый индекс", "Индексы в плане", "Seq Scan"));
+        for (CheckResult result : results) {
+            log.info(String.format(ROW_FORMAT, result.isOk() ? "OK" : "MISS", result.getQuery(),
+                    result.getExpectedIndex() == null ? "любой" : result.getExpectedIndex(),
+                    String.join(", ", result.getIndexes()), String.join(", ", result.getSeqScans())));
+        }
+    }
+
+    @Value
+    static class CheckResult {
+        String query;
+        String expectedIndex;
+        List<String> indexes;
+        List<String> seqScans;
+        double totalCost;
+        boolean ok;
+    }
+}
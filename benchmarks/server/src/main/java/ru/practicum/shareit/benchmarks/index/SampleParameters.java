@@ -0,0 +1,58 @@
+package ru.practicum.shareit.benchmarks.index;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Значения параметров для EXPLAIN из наполненной базы: самые активные автор бронирований и вещь,
+ * владелец со средним числом вещей. Крупнейшие владельцы при перекосе по Ципфу законно читают
+ * свои вещи целиком и для проверки индексов не показательны
+ */
+final class SampleParameters {
+
+    private static final int REQUEST_PAGE = 10;
+
+    private SampleParameters() {
+    }
+
+    static MapSqlParameterSource load(NamedParameterJdbcTemplate jdbcTemplate, int pageSize) {
+        Map<String, Object> noParams = Map.of();
+        List<Long> owners = jdbcTemplate.queryForList(
+                "SELECT owner_id FROM items GROUP BY owner_id ORDER BY COUNT(*) DESC, owner_id", noParams, Long.class);
+        if (owners.isEmpty()) {
+            throw new IllegalStateException("В базе нет вещей: сначала наполните её генератором нагрузки");
+        }
+        long ownerId = owners.get(owners.size() / 2);
+        long bookerId = jdbcTemplate.queryForObject(
+                "SELECT booker_id FROM bookings GROUP BY booker_id ORDER BY COUNT(*) DESC, booker_id LIMIT 1",
+                noParams, Long.class);
+        long itemId = jdbcTemplate.queryForObject(
+                "SELECT item_id FROM bookings GROUP BY item_id ORDER BY COUNT(*) DESC, item_id LIMIT 1",
+                noParams, Long.class);
+        long requesterId = jdbcTemplate.queryForObject(
+                "SELECT requester_id FROM requests GROUP BY requester_id ORDER BY COUNT(*) DESC, requester_id LIMIT 1",
+                noParams, Long.class);
+        List<Long> itemIds = jdbcTemplate.queryForList(
+                "SELECT id FROM items WHERE owner_id = :ownerId ORDER BY id LIMIT :limit",
+                Map.of("ownerId", ownerId, "limit", pageSize), Long.class);
+        List<Long> requestIds = jdbcTemplate.queryForList(
+                "SELECT id FROM requests ORDER BY created DESC LIMIT :limit",
+                Map.of("limit", REQUEST_PAGE), Long.class);
+
+        return new MapSqlParameterSource()
+                .addValue("ownerId", ownerId)
+                .addValue("bookerId", bookerId)
+                .addValue("itemId", itemId)
+                .addValue("requesterId", requesterId)
+                .addValue("itemIds", itemIds)
+                .addValue("requestIds", requestIds)
+                .addValue("now", LocalDateTime.now())
+                .addValue("cursorStart", LocalDateTime.now().plusYears(100))
+                .addValue("cursorId", Long.MAX_VALUE)
+                .addValue("limit", pageSize);
+    }
+}
@@ -2,18 +2,19 @@ package ru.practicum.shareit.booking;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.dto.GatewayBookingRequest;
 import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.booking.dto.GatewayBookingStatusRequest;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerTransportFactory;
 import ru.practicum.shareit.exception.BookingWrongTimeException;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -22,38 +23,89 @@ public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(ServerTransportFactory transportFactory, ResponseCache responseCache) {
         super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                transportFactory.create(API_PREFIX),
+                responseCache.region("bookings", "bookings", "items")
         );
     }
 
-    public ResponseEntity<Object> getBookingById(long userId, Long bookingId) {
+    public Mono<ResponseEntity<Object>> getBookingById(long userId, Long bookingId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> getAllUserBookings(long userId, BookingState state, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> getAllUserBookings(long userId, BookingState state, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
                 "size", size
         );
-        return get("?state={state}&from={from}&size={size}", userId, parameters);
+        return getByState(state, "?state={state}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getAllOwnerBookings(long userId, BookingState state, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> getUserBookingsPage(long userId, BookingState state, String cursor, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "state", state.name(),
+                "cursor", cursor,
+                "size", size
+        );
+        return getByState(state, "?state={state}&cursor={cursor}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getAllOwnerBookings(long userId, BookingState state, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
                 "size", size
         );
-        return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
+        return getByState(state, "/owner?state={state}&from={from}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getOwnerBookingsPage(long userId, BookingState state, String cursor, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "state", state.name(),
+                "cursor", cursor,
+                "size", size
+        );
+        return getByState(state, "/owner?state={state}&cursor={cursor}&size={size}", userId, parameters);
+    }
+
+    /*
+     * Состав списков CURRENT, PAST и FUTURE меняется с течением времени, а не только после записи через шлюз,
+     * поэтому они не кэшируются
+     */
+    private Mono<ResponseEntity<Object>> getByState(BookingState state, String path, long userId,
+                                                    Map<String, Object> parameters) {
+        if (state == BookingState.CURRENT || state == BookingState.PAST || state == BookingState.FUTURE) {
+            return getUncached(path, userId, parameters);
+        }
+        return get(path, userId, parameters);
     }
 
-    public ResponseEntity<Object> createBookingItem(long userId, GatewayBookingRequest bookingRequest) {
+    public Mono<ResponseEntity<Object>> createBookingItem(long userId, GatewayBookingRequest bookingRequest) {
+        checkTime(bookingRequest);
+        return post("", userId, bookingRequest);
+    }
+
+    /*
+     * Пакет отклоняется целиком, если время хотя бы одного бронирования задано неверно:
+     * такие ошибки клиент исправляет до отправки, а не разбирает по результатам элементов
+     */
+    public Mono<ResponseEntity<Object>> createBookings(long userId, List<GatewayBookingRequest> bookingRequests) {
+        bookingRequests.forEach(this::checkTime);
+        return post("/batch", userId, bookingRequests);
+    }
+
+    public Mono<ResponseEntity<Object>> updateBookingStatuses(long ownerId,
+                                                              List<GatewayBookingStatusRequest> statusRequests) {
+        return patch("/batch", ownerId, statusRequests);
+    }
+
+    public Mono<ResponseEntity<Object>> updateBookingStatus(long bookingId, boolean approved, long ownerId) {
+        return patch("/" + bookingId + "?approved=" + approved, ownerId);
+    }
+
+    private void checkTime(GatewayBookingRequest bookingRequest) {
         LocalDateTime start = bookingRequest.getStart();
         LocalDateTime end = bookingRequest.getEnd();
 
@@ -66,10 +118,5 @@ public class BookingClient extends BaseClient {
             log.error("Время начала и окончания бронирования не может быть равно");
             throw new BookingWrongTimeException("Время начала и окончания бронирования не может быть равно");
         }
-        return post("", userId, bookingRequest);
-    }
-
-    public ResponseEntity<Object> updateBookingStatus(long bookingId, boolean approved, long ownerId) {
-        return patch("/" + bookingId + "?approved=" + approved, ownerId);
     }
 }
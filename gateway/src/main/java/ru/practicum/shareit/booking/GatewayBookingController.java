@@ -7,14 +7,20 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.dto.GatewayBookingRequest;
 import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.booking.dto.GatewayBookingStatusRequest;
 import ru.practicum.shareit.exception.FailStateException;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Min;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import java.util.List;
 
 @Controller
 @RequestMapping(path = "/bookings")
@@ -22,19 +28,19 @@ import javax.validation.constraints.PositiveOrZero;
 @Slf4j
 @Validated
 public class GatewayBookingController {
+	public static final int MAX_BATCH_SIZE = 1000;
+
 	private final BookingClient bookingClient;
 
 	@GetMapping("/{bookingId}")  //getBookingById
-	public ResponseEntity<Object> getBooking(@RequestHeader("X-Sharer-User-Id") long userId,
-											 @PathVariable Long bookingId) {
+	public Mono<ResponseEntity<Object>> getBooking(@RequestHeader("X-Sharer-User-Id") long userId,
+											       @PathVariable Long bookingId) {
 		log.info("Входящий запрос GET /bookings/{}, userId={}", bookingId, userId);
-		final ResponseEntity<Object> bookingResponse = bookingClient.getBookingById(userId, bookingId);
-		log.info("Исходящий ответ: {}", bookingResponse);
-		return bookingResponse;
+		return bookingClient.getBookingById(userId, bookingId);
 	}
 
 	@GetMapping
-	public ResponseEntity<Object> getAllUserBookings(
+	public Mono<ResponseEntity<Object>> getAllUserBookings(
 			@RequestHeader("X-Sharer-User-Id") long userId,
 			@RequestParam(name = "state", defaultValue = "all") String stateParam,
 			@PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
@@ -43,13 +49,24 @@ public class GatewayBookingController {
 				.orElseThrow(() -> new FailStateException("Unknown state: " + stateParam));
 		log.info("Входящий запрос GET /bookings?state={}from={}&size={}. ID пользователя: {}",
 				stateParam, from, size, userId);
-		final ResponseEntity<Object> allUserBookingsList = bookingClient.getAllUserBookings(userId, state, from, size);
-		log.info("Исходящий ответ: {}", allUserBookingsList);
-		return allUserBookingsList;
+		return bookingClient.getAllUserBookings(userId, state, from, size);
+	}
+
+	@GetMapping(params = "cursor")
+	public Mono<ResponseEntity<Object>> getUserBookingsPage(
+			@RequestHeader("X-Sharer-User-Id") long userId,
+			@RequestParam(name = "state", defaultValue = "all") String stateParam,
+			@RequestParam(name = "cursor") String cursor,
+			@Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+		BookingState state = BookingState.from(stateParam)
+				.orElseThrow(() -> new FailStateException("Unknown state: " + stateParam));
+		log.info("Входящий запрос GET /bookings?state={}&cursor={}&size={}. ID пользователя: {}",
+				stateParam, cursor, size, userId);
+		return bookingClient.getUserBookingsPage(userId, state, cursor, size);
 	}
 
 	@GetMapping("/owner")
-	public ResponseEntity<Object> getAllOwnerBookings(
+	public Mono<ResponseEntity<Object>> getAllOwnerBookings(
 			@RequestHeader("X-Sharer-User-Id") long userId,
 			@RequestParam(name = "state", defaultValue = "ALL") String stateParam,
 			@RequestParam(name = "from", defaultValue = "0") @Min(0) int from,
@@ -58,27 +75,54 @@ public class GatewayBookingController {
 				.orElseThrow(() -> new FailStateException("Unknown state: " + stateParam));
 		log.info("Входящий запрос GET /bookings/owner?state={}from={}&size={}. ID владельца: {}",
 				stateParam, from, size, userId);
-		final ResponseEntity<Object> allOwnerBookingsList = bookingClient.getAllOwnerBookings(userId, state, from, size);
-		log.info("Исходящий ответ: {}", allOwnerBookingsList);
-		return allOwnerBookingsList;
+		return bookingClient.getAllOwnerBookings(userId, state, from, size);
+	}
+
+	@GetMapping(path = "/owner", params = "cursor")
+	public Mono<ResponseEntity<Object>> getOwnerBookingsPage(
+			@RequestHeader("X-Sharer-User-Id") long userId,
+			@RequestParam(name = "state", defaultValue = "ALL") String stateParam,
+			@RequestParam(name = "cursor") String cursor,
+			@RequestParam(name = "size", defaultValue = "5") @Min(1) int size) {
+		BookingState state = BookingState.from(stateParam)
+				.orElseThrow(() -> new FailStateException("Unknown state: " + stateParam));
+		log.info("Входящий запрос GET /bookings/owner?state={}&cursor={}&size={}. ID владельца: {}",
+				stateParam, cursor, size, userId);
+		return bookingClient.getOwnerBookingsPage(userId, state, cursor, size);
 	}
 
 	@PostMapping
-	public ResponseEntity<Object> createBooking(@RequestHeader("X-Sharer-User-Id") long userId,
-												@Valid @RequestBody GatewayBookingRequest bookingRequest) {
+	public Mono<ResponseEntity<Object>> createBooking(@RequestHeader("X-Sharer-User-Id") long userId,
+												      @Valid @RequestBody GatewayBookingRequest bookingRequest) {
 		log.info("Входящий запрос POST /bookings. ID пользователя: {}.  BookingRequest: {}", userId, bookingRequest);
-		final ResponseEntity<Object> createdBooking = bookingClient.createBookingItem(userId, bookingRequest);
-		log.info("Исходящий ответ: {}", createdBooking);
-		return createdBooking;
+		return bookingClient.createBookingItem(userId, bookingRequest);
 	}
 
 	@PatchMapping("/{bookingId}")
-	public ResponseEntity<Object> updateBookingStatus(@RequestParam boolean approved,
-													  @PathVariable long bookingId,
-													  @RequestHeader("X-Sharer-User-Id") long ownerId) {
+	public Mono<ResponseEntity<Object>> updateBookingStatus(@RequestParam boolean approved,
+													        @PathVariable long bookingId,
+													        @RequestHeader("X-Sharer-User-Id") long ownerId) {
 		log.info("Входящий запрос GET /bookings/{}?approved={}. ID владельца: {}", bookingId, approved, ownerId);
-		final ResponseEntity<Object> bookingResponse = bookingClient.updateBookingStatus(bookingId, approved, ownerId);
-		log.info("Исходящий ответ: {}", bookingResponse);
-		return bookingResponse;
+		return bookingClient.updateBookingStatus(bookingId, approved, ownerId);
+	}
+
+	@PostMapping("/batch")
+	public Mono<ResponseEntity<Object>> createBookings(
+			@RequestHeader("X-Sharer-User-Id") long userId,
+			@RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE)
+			List<@Valid @NotNull GatewayBookingRequest> bookingRequests) {
+		log.info("Входящий запрос POST /bookings/batch. ID пользователя: {}. Бронирований: {}",
+				userId, bookingRequests.size());
+		return bookingClient.createBookings(userId, bookingRequests);
+	}
+
+	@PatchMapping("/batch")
+	public Mono<ResponseEntity<Object>> updateBookingStatuses(
+			@RequestHeader("X-Sharer-User-Id") long ownerId,
+			@RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE)
+			List<@Valid @NotNull GatewayBookingStatusRequest> statusRequests) {
+		log.info("Входящий запрос PATCH /bookings/batch. ID владельца: {}. Решений: {}",
+				ownerId, statusRequests.size());
+		return bookingClient.updateBookingStatuses(ownerId, statusRequests);
 	}
 }
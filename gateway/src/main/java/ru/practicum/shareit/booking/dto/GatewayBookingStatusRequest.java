@@ -0,0 +1,21 @@
+package ru.practicum.shareit.booking.dto;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GatewayBookingStatusRequest {
+
+	@NotNull
+	@Positive
+	private Long bookingId;
+
+	@NotNull
+	private Boolean approved;
+}
@@ -0,0 +1,68 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class CacheRegion {
+
+    static final String KEY_SEPARATOR = "|";
+
+    private final ResponseCache cache;
+
+    private final String name;
+
+    private final boolean enabled;
+
+    private final List<String> invalidatedOnWrite;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    CacheRegion(ResponseCache cache, String name, boolean enabled, List<String> invalidatedOnWrite,
+                Counter hits, Counter misses) {
+        this.cache = cache;
+        this.name = name;
+        this.enabled = enabled;
+        this.invalidatedOnWrite = invalidatedOnWrite;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String key(String path, @Nullable Long userId, @Nullable Map<String, Object> parameters) {
+        return name + KEY_SEPARATOR + userId + KEY_SEPARATOR + path + KEY_SEPARATOR
+                + (parameters != null ? new TreeMap<>(parameters) : "");
+    }
+
+    public long generation() {
+        return cache.generation(name);
+    }
+
+    @Nullable
+    public ResponseEntity<Object> get(String key) {
+        ResponseEntity<Object> response = cache.get(key);
+        if (response != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return response;
+    }
+
+    public void put(long generation, String key, ResponseEntity<Object> response) {
+        cache.put(name, generation, key, response);
+    }
+
+    public void invalidateOnWrite() {
+        invalidatedOnWrite.forEach(cache::invalidate);
+    }
+}
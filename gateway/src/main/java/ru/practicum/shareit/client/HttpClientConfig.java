@@ -0,0 +1,126 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.netty.channel.ChannelOption;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Общий пул keep-alive соединений до сервера для всех клиентов шлюза.
+ * В режиме shareit-gateway.http.mode=reactive запросы уходят через WebClient и не занимают поток сервлета.
+ */
+@Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class HttpClientConfig {
+
+    private static final String MODE_PROPERTY = "shareit-gateway.http.mode";
+
+    @Configuration
+    @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "blocking", matchIfMissing = true)
+    static class BlockingTransportConfig {
+
+        @Bean(destroyMethod = "shutdown")
+        public PoolingHttpClientConnectionManager shareItServerConnectionManager(HttpClientProperties properties) {
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+            connectionManager.setMaxTotal(properties.getMaxTotal());
+            connectionManager.setDefaultMaxPerRoute(properties.getMaxPerRoute());
+            connectionManager.setValidateAfterInactivity((int) properties.getValidateAfterInactivity().toMillis());
+            return connectionManager;
+        }
+
+        @Bean
+        public CloseableHttpClient shareItServerHttpClient(PoolingHttpClientConnectionManager connectionManager,
+                                                           HttpClientProperties properties) {
+            long keepAlive = properties.getKeepAlive().toMillis();
+            return HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .setKeepAliveStrategy((response, context) -> {
+                        long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                                .getKeepAliveDuration(response, context);
+                        return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAlive) : keepAlive;
+                    })
+                    .evictExpiredConnections()
+                    .evictIdleConnections(properties.getIdleEviction().toMillis(), TimeUnit.MILLISECONDS)
+                    .build();
+        }
+
+        @Bean
+        public ClientHttpRequestFactory shareItServerRequestFactory(CloseableHttpClient shareItServerHttpClient,
+                                                                    HttpClientProperties properties) {
+            HttpComponentsClientHttpRequestFactory requestFactory =
+                    new HttpComponentsClientHttpRequestFactory(shareItServerHttpClient);
+            requestFactory.setConnectTimeout((int) properties.getConnectTimeout().toMillis());
+            requestFactory.setReadTimeout((int) properties.getReadTimeout().toMillis());
+            requestFactory.setConnectionRequestTimeout((int) properties.getConnectionRequestTimeout().toMillis());
+            return requestFactory;
+        }
+
+        @Bean
+        public PoolingHttpClientConnectionManagerMetricsBinder shareItServerPoolMetrics(
+                PoolingHttpClientConnectionManager connectionManager) {
+            return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "shareit-server");
+        }
+
+        @Bean
+        public ServerTransportFactory restTemplateTransportFactory(@Value("${shareit-server.url}") String serverUrl,
+                                                                   RestTemplateBuilder builder,
+                                                                   ClientHttpRequestFactory requestFactory) {
+            return apiPrefix -> new RestTemplateTransport(builder
+                    .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + apiPrefix))
+                    .requestFactory(() -> requestFactory)
+                    .build());
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "reactive")
+    static class ReactiveTransportConfig {
+
+        @Bean(destroyMethod = "dispose")
+        public ConnectionProvider shareItServerConnectionProvider(HttpClientProperties properties) {
+            return ConnectionProvider.builder("shareit-server")
+                    .maxConnections(properties.getMaxTotal())
+                    .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                    .maxIdleTime(properties.getKeepAlive())
+                    .evictInBackground(properties.getIdleEviction())
+                    .metrics(true)
+                    .build();
+        }
+
+        @Bean
+        public ReactorClientHttpConnector shareItServerConnector(ConnectionProvider connectionProvider,
+                                                                 HttpClientProperties properties) {
+            HttpClient httpClient = HttpClient.create(connectionProvider)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                    .responseTimeout(properties.getReadTimeout());
+            return new ReactorClientHttpConnector(httpClient);
+        }
+
+        @Bean
+        public ServerTransportFactory webClientTransportFactory(@Value("${shareit-server.url}") String serverUrl,
+                                                                WebClient.Builder builder,
+                                                                ReactorClientHttpConnector connector) {
+            return apiPrefix -> new WebClientTransport(builder.clone()
+                    .uriBuilderFactory(new DefaultUriBuilderFactory(serverUrl + apiPrefix))
+                    .clientConnector(connector)
+                    .build());
+        }
+    }
+}
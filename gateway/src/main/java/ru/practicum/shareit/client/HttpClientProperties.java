@@ -0,0 +1,42 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-gateway.http")
+public class HttpClientProperties {
+
+    /*
+     * BLOCKING - RestTemplate на пуле HttpComponents, REACTIVE - WebClient на Reactor Netty
+     */
+    private Mode mode = Mode.BLOCKING;
+
+    private int maxTotal = 200;
+
+    private int maxPerRoute = 100;
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    private Duration readTimeout = Duration.ofSeconds(10);
+
+    /*
+     * Сколько запрос ждёт свободного соединения из пула, прежде чем получить 503
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    private Duration idleEviction = Duration.ofSeconds(30);
+
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+    public enum Mode {
+        BLOCKING,
+        REACTIVE
+    }
+}
@@ -0,0 +1,109 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Ограниченный по размеру и времени жизни кэш ответов сервера на GET-запросы.
+ * Записи вытесняются в порядке LRU, запись через клиента сбрасывает затронутые ею регионы.
+ */
+@Component
+@Slf4j
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCache {
+
+    private final ResponseCacheProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Entry> entries;
+
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final Counter evictions;
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.evictions = meterRegistry.counter("gateway.cache.evictions");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                boolean evict = size() > properties.getMaxSize();
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+        meterRegistry.gaugeMapSize("gateway.cache.size", Tags.empty(), entries);
+    }
+
+    /*
+     * Регион кэша клиента. Запись через клиента сбрасывает все регионы из invalidatedOnWrite.
+     */
+    public CacheRegion region(String name, String... invalidatedOnWrite) {
+        return new CacheRegion(this, name, properties.isEnabledFor(name), Arrays.asList(invalidatedOnWrite),
+                meterRegistry.counter("gateway.cache.requests", "region", name, "result", "hit"),
+                meterRegistry.counter("gateway.cache.requests", "region", name, "result", "miss"));
+    }
+
+    long generation(String region) {
+        return generations.computeIfAbsent(region, r -> new AtomicLong()).get();
+    }
+
+    synchronized ResponseEntity<Object> get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt - System.nanoTime() <= 0) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.response;
+    }
+
+    synchronized void put(String region, long generation, String key, ResponseEntity<Object> response) {
+        if (generation(region) != generation) {
+            return;
+        }
+        entries.put(key, new Entry(response, System.nanoTime() + properties.getTtl().toNanos()));
+    }
+
+    synchronized void invalidate(String region) {
+        generations.computeIfAbsent(region, r -> new AtomicLong()).incrementAndGet();
+        String prefix = region + CacheRegion.KEY_SEPARATOR;
+        Iterator<String> keys = entries.keySet().iterator();
+        while (keys.hasNext()) {
+            if (keys.next().startsWith(prefix)) {
+                keys.remove();
+            }
+        }
+        log.debug("Сброшен регион кэша {}", region);
+    }
+
+    private static class Entry {
+
+        private final ResponseEntity<Object> response;
+
+        private final long expiresAt;
+
+        Entry(ResponseEntity<Object> response, long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-gateway.cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    private int maxSize = 1000;
+
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /*
+     * Включение кэша для отдельных клиентов: shareit-gateway.cache.clients.users=false
+     */
+    private Map<String, Boolean> clients = new HashMap<>();
+
+    public boolean isEnabledFor(String region) {
+        return enabled && clients.getOrDefault(region, true);
+    }
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.client;
+
+@FunctionalInterface
+public interface ServerTransportFactory {
+
+    ServerTransport create(String apiPrefix);
+}
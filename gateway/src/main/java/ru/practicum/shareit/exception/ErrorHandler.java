@@ -6,6 +6,8 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 
 import javax.validation.ConstraintViolationException;
 import java.time.LocalDateTime;
@@ -42,4 +44,18 @@ public class ErrorHandler {
         return new ErrorMessage(String.format("%s", e.getMessage()));
     }
 
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Response handleResourceAccessException(final ResourceAccessException e) {
+        log.warn("503 {}", e.getMessage(), e);
+        return new Response(String.format("%s %s", LocalDateTime.now(), "Сервер ShareIt недоступен"));
+    }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Response handleWebClientRequestException(final WebClientRequestException e) {
+        log.warn("503 {}", e.getMessage(), e);
+        return new Response(String.format("%s %s", LocalDateTime.now(), "Сервер ShareIt недоступен"));
+    }
+
 }
@@ -0,0 +1,43 @@
+package ru.practicum.shareit.logging;
+
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+
+/*
+ * Сводка тела ответа: тип и размер вместо toString всех вложенных DTO.
+ * Строка собирается только при форматировании сообщения логгером.
+ */
+class ResponseSummary {
+
+    @Nullable
+    private final Object body;
+
+    ResponseSummary(@Nullable Object body) {
+        this.body = body;
+    }
+
+    @Override
+    public String toString() {
+        if (body == null) {
+            return "без тела";
+        }
+        if (body instanceof Collection) {
+            Collection<?> collection = (Collection<?>) body;
+            String elementType = collection.isEmpty() || collection.iterator().next() == null
+                    ? "" : "<" + collection.iterator().next().getClass().getSimpleName() + ">";
+            return "List" + elementType + "[size=" + collection.size() + "]";
+        }
+        if (body instanceof Map) {
+            return "Object[fields=" + ((Map<?, ?>) body).size() + "]";
+        }
+        if (body instanceof byte[]) {
+            return "byte[length=" + ((byte[]) body).length + "]";
+        }
+        if (body instanceof CharSequence) {
+            return "String[length=" + ((CharSequence) body).length() + "]";
+        }
+        return body.getClass().getSimpleName();
+    }
+}
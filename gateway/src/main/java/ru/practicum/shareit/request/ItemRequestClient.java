@@ -1,13 +1,12 @@
 package ru.practicum.shareit.request;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerTransportFactory;
 import ru.practicum.shareit.request.dto.GatewayItemRequestRequest;
 
 import java.util.Map;
@@ -18,20 +17,18 @@ public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(ServerTransportFactory transportFactory, ResponseCache responseCache) {
         super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                transportFactory.create(API_PREFIX),
+                responseCache.region("requests", "requests")
         );
     }
 
-    public ResponseEntity<Object> getAllUserItemRequest(Long userId) {
+    public Mono<ResponseEntity<Object>> getAllUserItemRequest(Long userId) {
         return get("",  userId);
     }
 
-    public ResponseEntity<Object> getAllItemRequest(Long userId, int from, int size) {
+    public Mono<ResponseEntity<Object>> getAllItemRequest(Long userId, int from, int size) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
@@ -39,11 +36,11 @@ public class ItemRequestClient extends BaseClient {
         return get("/all?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getItemRequestResponseById(long requestId, Long userId) {
+    public Mono<ResponseEntity<Object>> getItemRequestResponseById(long requestId, Long userId) {
         return get("/" + requestId,  userId);
     }
 
-    public ResponseEntity<Object> createItemRequest(Long userId, GatewayItemRequestRequest gatewayItemRequestRequest) {
+    public Mono<ResponseEntity<Object>> createItemRequest(Long userId, GatewayItemRequestRequest gatewayItemRequestRequest) {
         return post("", userId, gatewayItemRequestRequest);
     }
 }
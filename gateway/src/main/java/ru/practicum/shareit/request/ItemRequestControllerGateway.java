@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.request.dto.GatewayItemRequestRequest;
 
 import javax.validation.Valid;
@@ -22,42 +23,32 @@ public class ItemRequestControllerGateway {
     private final ItemRequestClient itemRequestClient;
 
     @GetMapping
-    public ResponseEntity<Object> getAllUserItemRequest(@RequestHeader("X-Sharer-User-Id") Long userId) {
+    public Mono<ResponseEntity<Object>> getAllUserItemRequest(@RequestHeader("X-Sharer-User-Id") Long userId) {
         log.info("Входящий запрос GET /requests. ID пользователя: {}.", userId);
-        final ResponseEntity<Object> allUserItemRequest = itemRequestClient.getAllUserItemRequest(userId);
-        log.info("Исходящий ответ: {}", allUserItemRequest);
-        return allUserItemRequest;
+        return itemRequestClient.getAllUserItemRequest(userId);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getAllItemRequest(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                    @RequestParam(defaultValue = "0") @Min(0) int from,
-                                                    @RequestParam(defaultValue = "5") @Min(1) int size) {
+    public Mono<ResponseEntity<Object>> getAllItemRequest(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                          @RequestParam(defaultValue = "0") @Min(0) int from,
+                                                          @RequestParam(defaultValue = "5") @Min(1) int size) {
         log.info("Входящий запрос GET /requests/all?from={}&size={}. ID пользователя: {}.", from, size, userId);
-        final ResponseEntity<Object> allItemRequest = itemRequestClient.getAllItemRequest(userId, from, size);
-        log.info("Исходящий ответ: {}", allItemRequest);
-        return allItemRequest;
+        return itemRequestClient.getAllItemRequest(userId, from, size);
     }
 
     @GetMapping("/{requestId}")
-    public ResponseEntity<Object> getItemRequest(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                 @PathVariable long requestId) {
+    public Mono<ResponseEntity<Object>> getItemRequest(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                       @PathVariable long requestId) {
         log.info("Входящий запрос GET /requests/{}. ID пользователя: {}.", requestId, userId);
-        final ResponseEntity<Object> itemRequestResponse = itemRequestClient
-                .getItemRequestResponseById(requestId, userId);
-        log.info("Исходящий ответ: {}", itemRequestResponse);
-        return itemRequestResponse;
+        return itemRequestClient.getItemRequestResponseById(requestId, userId);
     }
 
     @PostMapping
-    public ResponseEntity<Object> createItemRequest(@Valid @RequestBody GatewayItemRequestRequest gatewayItemRequestRequest,
-                                                    @RequestHeader("X-Sharer-User-Id") Long userId) {
+    public Mono<ResponseEntity<Object>> createItemRequest(@Valid @RequestBody GatewayItemRequestRequest gatewayItemRequestRequest,
+                                                          @RequestHeader("X-Sharer-User-Id") Long userId) {
         log.info("Входящий запрос POST /requests. ID пользователя: {}. " +
                 "itemRequestRequest: {}", userId, gatewayItemRequestRequest);
-        final ResponseEntity<Object> createdItemRequestResponse = itemRequestClient
-                .createItemRequest(userId, gatewayItemRequestRequest);
-        log.info("Исходящий ответ: {}", createdItemRequestResponse);
-        return createdItemRequestResponse;
+        return itemRequestClient.createItemRequest(userId, gatewayItemRequestRequest);
     }
 
 }
@@ -1,13 +1,12 @@
 package ru.practicum.shareit.user;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerTransportFactory;
 import ru.practicum.shareit.user.dto.GatewayUserRequest;
 
 @Service
@@ -16,32 +15,30 @@ public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public UserClient(ServerTransportFactory transportFactory, ResponseCache responseCache) {
         super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                transportFactory.create(API_PREFIX),
+                responseCache.region("users", "users", "items", "bookings", "requests")
         );
     }
 
-    public ResponseEntity<Object> createUser(GatewayUserRequest gatewayUserRequest) {
+    public Mono<ResponseEntity<Object>> createUser(GatewayUserRequest gatewayUserRequest) {
         return post("", gatewayUserRequest);
     }
 
-    public ResponseEntity<Object> updateUser(long userId, GatewayUserRequest gatewayUserRequest) {
+    public Mono<ResponseEntity<Object>> updateUser(long userId, GatewayUserRequest gatewayUserRequest) {
         return patch("/" + userId, gatewayUserRequest);
     }
 
-    public ResponseEntity<Object> deleteUser(long userId) {
+    public Mono<ResponseEntity<Object>> deleteUser(long userId) {
         return delete("/" + userId);
     }
 
-    public ResponseEntity<Object> getUserResponseById(long userId) {
+    public Mono<ResponseEntity<Object>> getUserResponseById(long userId) {
         return get("/" + userId);
     }
 
-    public ResponseEntity<Object> getAllUsers() {
+    public Mono<ResponseEntity<Object>> getAllUsers() {
         return get("");
     }
 }
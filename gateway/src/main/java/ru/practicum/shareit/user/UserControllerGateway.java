@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.dto.GatewayUserRequest;
 
 import javax.validation.Valid;
@@ -19,40 +20,32 @@ public class UserControllerGateway {
     private final UserClient userClient;
 
     @GetMapping
-    public ResponseEntity<Object> getAllUsers() {
+    public Mono<ResponseEntity<Object>> getAllUsers() {
         log.info("Входящий запрос GET /users.");
-        final ResponseEntity<Object> userResponseList = userClient.getAllUsers();
-        log.info("Исходящий ответ: {}", userResponseList);
-        return userResponseList;
+        return userClient.getAllUsers();
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Object> findUserById(@PathVariable Long id) {
+    public Mono<ResponseEntity<Object>> findUserById(@PathVariable Long id) {
         log.info("Входящий запрос GET /users/{}.", id);
-        final ResponseEntity<Object> userResponse = userClient.getUserResponseById(id);
-        log.info("Исходящий ответ: {}", userResponse);
-        return userResponse;
+        return userClient.getUserResponseById(id);
     }
 
     @PostMapping
-    public ResponseEntity<Object> create(@Valid @RequestBody GatewayUserRequest gatewayUserRequest) {
+    public Mono<ResponseEntity<Object>> create(@Valid @RequestBody GatewayUserRequest gatewayUserRequest) {
         log.info("Входящий запрос POST /users: {}", gatewayUserRequest);
-        final ResponseEntity<Object> createdUserResponse = userClient.createUser(gatewayUserRequest);
-        log.info("Исходящий ответ: {}", createdUserResponse);
-        return createdUserResponse;
+        return userClient.createUser(gatewayUserRequest);
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<Object> update(@RequestBody GatewayUserRequest gatewayUserRequest, @PathVariable Long id) {
+    public Mono<ResponseEntity<Object>> update(@RequestBody GatewayUserRequest gatewayUserRequest, @PathVariable Long id) {
         log.info("Входящий запрос PUT /users: {}", gatewayUserRequest);
-        final ResponseEntity<Object> updatedUserResponse = userClient.updateUser(id, gatewayUserRequest);
-        log.info("Исходящий ответ: {}", updatedUserResponse);
-        return updatedUserResponse;
+        return userClient.updateUser(id, gatewayUserRequest);
     }
 
     @DeleteMapping("/{userId}")
-    public void delete(@PathVariable long userId) {
+    public Mono<Void> delete(@PathVariable long userId) {
         log.info("Входящий запрос DELETE /users/{}", userId);
-        userClient.deleteUser(userId);
+        return userClient.deleteUser(userId).then();
     }
 }
@@ -0,0 +1,55 @@
+package ru.practicum.shareit.booking;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ResponseCacheProperties;
+import ru.practicum.shareit.client.ServerTransport;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookingClientTest {
+
+    private final ServerTransport transport = mock(ServerTransport.class);
+
+    private final BookingClient bookingClient = new BookingClient(apiPrefix -> transport,
+            new ResponseCache(new ResponseCacheProperties(), new SimpleMeterRegistry()));
+
+    @Test
+    void getAllOwnerBookings_whenStateDependsOnTime_thenNotCached() {
+        when(transport.exchange(eq(HttpMethod.GET), anyString(), any(HttpHeaders.class), anyMap(), isNull()))
+                .thenReturn(Mono.just(new ResponseEntity<>("[]", HttpStatus.OK)));
+
+        for (BookingState state : new BookingState[]{BookingState.CURRENT, BookingState.PAST, BookingState.FUTURE}) {
+            bookingClient.getAllOwnerBookings(1L, state, 0, 10).block();
+            bookingClient.getAllOwnerBookings(1L, state, 0, 10).block();
+        }
+
+        verify(transport, times(6)).exchange(eq(HttpMethod.GET), anyString(), any(HttpHeaders.class), anyMap(), isNull());
+    }
+
+    @Test
+    void getAllUserBookings_whenStateDoesNotDependOnTime_thenCached() {
+        when(transport.exchange(eq(HttpMethod.GET), anyString(), any(HttpHeaders.class), anyMap(), isNull()))
+                .thenReturn(Mono.just(new ResponseEntity<>("[]", HttpStatus.OK)));
+
+        bookingClient.getAllUserBookings(1L, BookingState.WAITING, 0, 10).block();
+        bookingClient.getAllUserBookings(1L, BookingState.WAITING, 0, 10).block();
+
+        verify(transport, times(1)).exchange(eq(HttpMethod.GET), anyString(), any(HttpHeaders.class), anyMap(), isNull());
+    }
+}
@@ -0,0 +1,138 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BaseClientTest {
+
+    private final ServerTransport transport = mock(ServerTransport.class);
+
+    private final BaseClient client = new BaseClient(transport);
+
+    private final ResponseCacheProperties cacheProperties = new ResponseCacheProperties();
+
+    private final ResponseCache cache = new ResponseCache(cacheProperties, new SimpleMeterRegistry());
+
+    @Test
+    void get_whenServerResponseSuccessful_thenHopByHopHeadersDropped() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+        headers.set(HttpHeaders.CONNECTION, "keep-alive");
+        headers.set("Keep-Alive", "timeout=60");
+        headers.set(HttpHeaders.CONTENT_TYPE, "application/json");
+        headers.set("X-Next-Cursor", "abc");
+        when(transport.exchange(eq(HttpMethod.GET), eq("/1"), any(HttpHeaders.class), isNull(), isNull()))
+                .thenReturn(Mono.just(new ResponseEntity<>("body", headers, HttpStatus.OK)));
+
+        ResponseEntity<Object> response = client.get("/1", 1L).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("body", response.getBody());
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.CONNECTION));
+        assertFalse(response.getHeaders().containsKey("Keep-Alive"));
+        assertEquals("application/json", response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE));
+        assertEquals("abc", response.getHeaders().getFirst("X-Next-Cursor"));
+        assertEquals("chunked", headers.getFirst(HttpHeaders.TRANSFER_ENCODING));
+    }
+
+    @Test
+    void get_whenServerResponseIsError_thenOnlyStatusAndBodyForwarded() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+        when(transport.exchange(eq(HttpMethod.GET), eq("/1"), any(HttpHeaders.class), isNull(), isNull()))
+                .thenReturn(Mono.just(new ResponseEntity<>("error", headers, HttpStatus.NOT_FOUND)));
+
+        ResponseEntity<Object> response = client.get("/1", 1L).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("error", response.getBody());
+        assertTrue(response.getHeaders().isEmpty());
+    }
+
+    @Test
+    void get_whenCachedClientResponseSuccessful_thenSecondRequestServedFromCache() {
+        BaseClient cachedClient = new BaseClient(transport, cache.region("items"));
+        when(transport.exchange(eq(HttpMethod.GET), eq("/1"), any(HttpHeaders.class), isNull(), isNull()))
+                .thenReturn(Mono.just(new ResponseEntity<>("item", HttpStatus.OK)));
+
+        cachedClient.get("/1", 1L).block();
+        ResponseEntity<Object> response = cachedClient.get("/1", 1L).block();
+
+        assertNotNull(response);
+        assertEquals("item", response.getBody());
+        verify(transport, times(1)).exchange(eq(HttpMethod.GET), eq("/1"), any(HttpHeaders.class), isNull(), isNull());
+    }
+
+    @Test
+    void get_whenCachedClientResponseIsError_thenResponseNotCached() {
+        BaseClient cachedClient = new BaseClient(transport, cache.region("items"));
+        when(transport.exchange(eq(HttpMethod.GET), eq("/1"), any(HttpHeaders.class), isNull(), isNull()))
+                .thenReturn(Mono.just(new ResponseEntity<>("error", HttpStatus.NOT_FOUND)));
+
+        cachedClient.get("/1", 1L).block();
+        cachedClient.get("/1", 1L).block();
+
+        verify(transport, times(2)).exchange(eq(HttpMethod.GET), eq("/1"), any(HttpHeaders.class), isNull(), isNull());
+    }
+
+    @Test
+    void post_whenCachedClient_thenResponseNotCachedAndRegionInvalidated() {
+        BaseClient cachedClient = new BaseClient(transport, cache.region("items", "items"));
+        when(transport.exchange(eq(HttpMethod.GET), eq("/1"), any(HttpHeaders.class), isNull(), isNull()))
+                .thenReturn(Mono.just(new ResponseEntity<>("item", HttpStatus.OK)));
+        when(transport.exchange(eq(HttpMethod.POST), eq("/1"), any(HttpHeaders.class), isNull(), eq("body")))
+                .thenReturn(Mono.just(new ResponseEntity<>("created", HttpStatus.OK)));
+
+        cachedClient.get("/1", 1L).block();
+        cachedClient.post("/1", 1L, "body").block();
+        cachedClient.post("/1", 1L, "body").block();
+        cachedClient.get("/1", 1L).block();
+
+        verify(transport, times(2))
+                .exchange(eq(HttpMethod.POST), eq("/1"), any(HttpHeaders.class), isNull(), eq("body"));
+        verify(transport, times(2)).exchange(eq(HttpMethod.GET), eq("/1"), any(HttpHeaders.class), isNull(), isNull());
+    }
+
+    @Test
+    void get_whenClientCachingDisabled_thenEveryRequestSentToServer() {
+        cacheProperties.getClients().put("items", false);
+        BaseClient cachedClient = new BaseClient(transport, cache.region("items"));
+        when(transport.exchange(eq(HttpMethod.GET), eq("/1"), any(HttpHeaders.class), isNull(), isNull()))
+                .thenReturn(Mono.just(new ResponseEntity<>("item", HttpStatus.OK)));
+
+        cachedClient.get("/1", 1L).block();
+        cachedClient.get("/1", 1L).block();
+
+        verify(transport, times(2)).exchange(eq(HttpMethod.GET), eq("/1"), any(HttpHeaders.class), isNull(), isNull());
+    }
+
+    @Test
+    void getUncached_whenCachedClient_thenEveryRequestSentToServer() {
+        BaseClient cachedClient = new BaseClient(transport, cache.region("items"));
+        when(transport.exchange(eq(HttpMethod.GET), eq("/1"), any(HttpHeaders.class), isNull(), isNull()))
+                .thenReturn(Mono.just(new ResponseEntity<>("item", HttpStatus.OK)));
+
+        cachedClient.getUncached("/1", 1L, null).block();
+        cachedClient.getUncached("/1", 1L, null).block();
+        cachedClient.get("/1", 1L).block();
+
+        verify(transport, times(3)).exchange(eq(HttpMethod.GET), eq("/1"), any(HttpHeaders.class), isNull(), isNull());
+    }
+}
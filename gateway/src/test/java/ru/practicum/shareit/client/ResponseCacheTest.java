@@ -0,0 +1,112 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ResponseCacheProperties properties;
+
+    private ResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResponseCacheProperties();
+        properties.setMaxSize(2);
+        cache = new ResponseCache(properties, meterRegistry);
+    }
+
+    @Test
+    void get_whenEntryPut_thenCachedResponseReturned() {
+        CacheRegion items = cache.region("items");
+        String key = items.key("/1", 1L, null);
+        ResponseEntity<Object> response = ResponseEntity.ok("item");
+
+        items.put(items.generation(), key, response);
+
+        assertSame(response, items.get(key));
+        assertEquals(1, meterRegistry.counter("gateway.cache.requests", "region", "items", "result", "hit").count());
+    }
+
+    @Test
+    void get_whenTtlExpired_thenNullReturned() {
+        properties.setTtl(Duration.ZERO);
+        CacheRegion items = cache.region("items");
+        String key = items.key("/1", 1L, null);
+
+        items.put(items.generation(), key, ResponseEntity.ok("item"));
+
+        assertNull(items.get(key));
+        assertEquals(1, meterRegistry.counter("gateway.cache.requests", "region", "items", "result", "miss").count());
+    }
+
+    @Test
+    void put_whenMaxSizeExceeded_thenLeastRecentlyUsedEvicted() {
+        CacheRegion items = cache.region("items");
+        String first = items.key("/1", 1L, null);
+        String second = items.key("/2", 1L, null);
+        String third = items.key("/3", 1L, null);
+        items.put(items.generation(), first, ResponseEntity.ok("first"));
+        items.put(items.generation(), second, ResponseEntity.ok("second"));
+        assertNotNull(items.get(first));
+
+        items.put(items.generation(), third, ResponseEntity.ok("third"));
+
+        assertNotNull(items.get(first));
+        assertNull(items.get(second));
+        assertNotNull(items.get(third));
+        assertEquals(1, meterRegistry.counter("gateway.cache.evictions").count());
+    }
+
+    @Test
+    void put_whenRegionInvalidatedAfterGenerationRead_thenResponseNotCached() {
+        CacheRegion items = cache.region("items");
+        CacheRegion writer = cache.region("writer", "items");
+        String key = items.key("/1", 1L, null);
+        long generation = items.generation();
+
+        writer.invalidateOnWrite();
+        items.put(generation, key, ResponseEntity.ok("stale"));
+
+        assertNull(items.get(key));
+        items.put(items.generation(), key, ResponseEntity.ok("fresh"));
+        assertNotNull(items.get(key));
+    }
+
+    @Test
+    void invalidateOnWrite_whenWriterCachingDisabled_thenListedRegionsCleared() {
+        properties.setClients(Map.of("bookings", false));
+        CacheRegion items = cache.region("items");
+        CacheRegion users = cache.region("users");
+        CacheRegion bookings = cache.region("bookings", "items");
+        String itemKey = items.key("/1", 1L, null);
+        String userKey = users.key("/1", 1L, null);
+        items.put(items.generation(), itemKey, ResponseEntity.ok("item"));
+        users.put(users.generation(), userKey, ResponseEntity.ok("user"));
+
+        assertFalse(bookings.isEnabled());
+        bookings.invalidateOnWrite();
+
+        assertNull(items.get(itemKey));
+        assertNotNull(users.get(userKey));
+    }
+
+    @Test
+    void key_whenParametersInDifferentOrder_thenSameKey() {
+        CacheRegion items = cache.region("items");
+
+        assertEquals(items.key("/search", 1L, Map.of("text", "a", "from", 0)),
+                items.key("/search", 1L, new LinkedHashMap<>(Map.of("from", 0, "text", "a"))));
+        assertNotEquals(items.key("/1", 1L, null), items.key("/1", 2L, null));
+    }
+}
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.logging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResponseLoggingAdviceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void beforeBodyWrite_whenResponseSampled_thenBodyReturnedUnchangedAndTimed() {
+        ResponseLoggingProperties properties = new ResponseLoggingProperties();
+        properties.setSampleRate(1);
+        ResponseLoggingAdvice advice = new ResponseLoggingAdvice(properties, meterRegistry);
+        ServerHttpRequest request = mock(ServerHttpRequest.class);
+        when(request.getMethod()).thenReturn(HttpMethod.GET);
+        when(request.getURI()).thenReturn(URI.create("/items"));
+        List<Map<String, Object>> body = List.of(Map.of("id", 1), Map.of("id", 2));
+
+        Object result = advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, request, mock(ServerHttpResponse.class));
+
+        assertSame(body, result);
+        assertEquals(1, meterRegistry.timer("shareit.logging.response").count());
+    }
+
+    @Test
+    void beforeBodyWrite_whenSamplingDisabled_thenBodyReturnedUnchanged() {
+        ResponseLoggingProperties properties = new ResponseLoggingProperties();
+        properties.setSampleRate(0);
+        ResponseLoggingAdvice advice = new ResponseLoggingAdvice(properties, meterRegistry);
+        ServerHttpRequest request = mock(ServerHttpRequest.class);
+        when(request.getMethod()).thenReturn(HttpMethod.GET);
+        when(request.getURI()).thenReturn(URI.create("/items/1"));
+        Map<String, Object> body = Map.of("id", 1);
+
+        Object result = advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, request, mock(ServerHttpResponse.class));
+
+        assertSame(body, result);
+    }
+
+    @Test
+    void toString_whenBodyIsLargeList_thenOnlyTypeAndSizeReported() {
+        assertEquals("List<String>[size=2]", new ResponseSummary(List.of("a", "b")).toString());
+        assertEquals("List[size=0]", new ResponseSummary(List.of()).toString());
+        assertEquals("Object[fields=1]", new ResponseSummary(Map.of("id", 1)).toString());
+        assertEquals("byte[length=3]", new ResponseSummary(new byte[3]).toString());
+        assertEquals("String[length=2]", new ResponseSummary("ок").toString());
+        assertEquals("без тела", new ResponseSummary(null).toString());
+    }
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.booking;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.booking.archive")
+public class BookingArchiveProperties {
+
+    private boolean enabled = true;
+
+    /*
+     * Сколько одобренное бронирование остаётся в bookings после окончания. Списки не обращаются к архиву,
+     * пока страница не доходит до бронирований, начатых раньше этого срока. Уменьшать срок можно в любой момент;
+     * после увеличения уже перенесённые бронирования не видны на первых страницах, пока не станут старше нового
+     */
+    private Duration retention = Duration.ofDays(90);
+
+    /*
+     * Бронирований за одну транзакцию переноса
+     */
+    private int batchSize = 1000;
+
+    private Duration interval = Duration.ofHours(1);
+}
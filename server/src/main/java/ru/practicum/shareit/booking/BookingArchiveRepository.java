@@ -0,0 +1,51 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.model.ArchivedBooking;
+
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hibernate.annotations.QueryHints.NATIVE_SPACES;
+
+@Repository
+public interface BookingArchiveRepository extends JpaRepository<ArchivedBooking, Long> {
+
+    @Query("SELECT b FROM ArchivedBooking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = ?1 ORDER BY b.start DESC, b.id DESC")
+    List<ArchivedBooking> findByBookerId(long bookerId, Pageable page);
+
+    @Query("SELECT b FROM ArchivedBooking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = ?1 " +
+            "AND (b.start < ?2 OR (b.start = ?2 AND b.id < ?3)) ORDER BY b.start DESC, b.id DESC")
+    List<ArchivedBooking> findByBookerIdKeyset(long bookerId, LocalDateTime start, long id, Pageable page);
+
+    @Query("SELECT b FROM ArchivedBooking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = ?1 ORDER BY b.start DESC, b.id DESC")
+    List<ArchivedBooking> findByOwnerId(long ownerId, Pageable page);
+
+    @Query("SELECT b FROM ArchivedBooking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = ?1 " +
+            "AND (b.start < ?2 OR (b.start = ?2 AND b.id < ?3)) ORDER BY b.start DESC, b.id DESC")
+    List<ArchivedBooking> findByOwnerIdKeyset(long ownerId, LocalDateTime start, long id, Pageable page);
+
+    boolean existsByBookerIdAndItemId(long bookerId, long itemId);
+
+    /*
+     * countQuery задан явно: Spring Data выводит его из любого native-запроса и не разбирает INSERT ... SELECT.
+     * Подсказка ограничивает сброс кэша второго уровня таблицей архива
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "bookings_archive"))
+    @Query(value = "INSERT INTO bookings_archive (id, start_date, end_date, item_id, booker_id, status) " +
+            "SELECT b.id, b.start_date, b.end_date, b.item_id, b.booker_id, b.status FROM bookings b " +
+            "WHERE b.id IN (?1)", countQuery = "SELECT COUNT(*) FROM bookings_archive", nativeQuery = true)
+    int copyFromBookings(Collection<Long> bookingIds);
+}
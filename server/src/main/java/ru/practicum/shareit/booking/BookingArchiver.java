@@ -0,0 +1,77 @@
+package ru.practicum.shareit.booking;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ * Переносит одобренные бронирования старше срока хранения из bookings в bookings_archive пачками,
+ * каждая пачка - отдельная транзакция: копирование и удаление видны вместе или не видны вовсе
+ */
+@Component
+@ConditionalOnProperty(prefix = "shareit.booking.archive", name = "enabled", matchIfMissing = true)
+@Slf4j
+public class BookingArchiver {
+
+    private final BookingRepository bookingRepository;
+
+    private final BookingArchiveRepository bookingArchiveRepository;
+
+    private final BookingArchiveProperties properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter archivedCounter;
+
+    public BookingArchiver(BookingRepository bookingRepository, BookingArchiveRepository bookingArchiveRepository,
+                           BookingArchiveProperties properties, PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.bookingRepository = bookingRepository;
+        this.bookingArchiveRepository = bookingArchiveRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archivedCounter = Counter.builder("shareit.bookings.archived")
+                .description("Бронирования, перенесённые в архив")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.booking.archive.interval:PT1H}",
+            initialDelayString = "${shareit.booking.archive.interval:PT1H}")
+    public void archive() {
+        LocalDateTime endBefore = LocalDateTime.now().minus(properties.getRetention());
+        long archived = 0;
+        int moved;
+        do {
+            moved = archiveBatch(endBefore);
+            archived += moved;
+        } while (moved == properties.getBatchSize());
+        if (archived > 0) {
+            log.info("В архив перенесено бронирований, завершившихся до {}: {}", endBefore, archived);
+        }
+    }
+
+    int archiveBatch(LocalDateTime endBefore) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> bookingIds = bookingRepository
+                    .findArchivableIds(endBefore, PageRequest.of(0, properties.getBatchSize()));
+            if (bookingIds.isEmpty()) {
+                return 0;
+            }
+            bookingArchiveRepository.copyFromBookings(bookingIds);
+            bookingRepository.deleteByIdIn(bookingIds);
+            return bookingIds.size();
+        });
+        int count = moved == null ? 0 : moved;
+        archivedCounter.increment(count);
+        return count;
+    }
+}
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.booking;
+
+import ru.practicum.shareit.booking.model.Booking;
+
+import java.util.List;
+
+public interface BookingBatchRepository {
+
+    /*
+     * Вставка одним JDBC-пакетом в текущей транзакции; id из базы проставляются в переданные бронирования
+     */
+    void insertAll(List<Booking> bookings);
+}
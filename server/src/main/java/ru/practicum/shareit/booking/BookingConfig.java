@@ -0,0 +1,12 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({BookingArchiveProperties.class, BookingLockProperties.class})
+public class BookingConfig {
+
+}
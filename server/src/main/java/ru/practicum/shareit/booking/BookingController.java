@@ -3,11 +3,15 @@ package ru.practicum.shareit.booking;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.model.BookingCursor;
 import ru.practicum.shareit.booking.model.BookingRequestParams;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingRequest;
 import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.dto.BookingStatusRequest;
 import ru.practicum.shareit.enums.States;
 
 import java.util.List;
@@ -20,6 +24,8 @@ import java.util.List;
 @Validated
 public class BookingController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @Autowired
     private final BookingService bookingService;
 
@@ -27,9 +33,7 @@ public class BookingController {
     public BookingResponse getBookingById(@PathVariable long bookingId,
                                           @RequestHeader("X-Sharer-User-Id") Long userId) {
         log.info("Входящий запрос GET /bookings/{}. ID пользователя: {}", bookingId, userId);
-        final BookingResponse bookingResponse = bookingService.getBookingByIdForOwnerOrAuthor(bookingId, userId);
-        log.info("Исходящий ответ: {}", bookingResponse);
-        return bookingResponse;
+        return bookingService.getBookingByIdForOwnerOrAuthor(bookingId, userId);
     }
 
     @GetMapping
@@ -40,9 +44,20 @@ public class BookingController {
         log.info("Входящий запрос GET /bookings?state={}from={}&size={}. ID пользователя: {}",
                 state, from, size, userId);
         BookingRequestParams bookingRequestParams = new BookingRequestParams(state, userId, from, size);
+        return bookingService.getAllUserBookings(bookingRequestParams);
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<List<BookingResponse>> getUserBookingsPage(@RequestParam(defaultValue = "ALL") States state,
+                                                                     @RequestHeader("X-Sharer-User-Id") long userId,
+                                                                     @RequestParam String cursor,
+                                                                     @RequestParam(defaultValue = "5") int size) {
+        log.info("Входящий запрос GET /bookings?state={}&cursor={}&size={}. ID пользователя: {}",
+                state, cursor, size, userId);
+        BookingRequestParams bookingRequestParams =
+                new BookingRequestParams(state, userId, 0, size, BookingCursor.decode(cursor));
         final List<BookingResponse> bookingResponseList = bookingService.getAllUserBookings(bookingRequestParams);
-        log.info("Исходящий ответ: {}", bookingResponseList);
-        return bookingResponseList;
+        return withNextCursor(bookingResponseList, size);
     }
 
     @GetMapping("/owner")
@@ -53,9 +68,20 @@ public class BookingController {
         log.info("Входящий запрос GET /bookings/owner?state={}from={}&size={}. ID владельца: {}",
                 state, from, size, userId);
         BookingRequestParams bookingRequestParams = new BookingRequestParams(state, userId, from, size);
+        return bookingService.getAllOwnerBookings(bookingRequestParams);
+    }
+
+    @GetMapping(path = "/owner", params = "cursor")
+    public ResponseEntity<List<BookingResponse>> getOwnerBookingsPage(@RequestParam(defaultValue = "ALL") States state,
+                                                                      @RequestHeader("X-Sharer-User-Id") long userId,
+                                                                      @RequestParam String cursor,
+                                                                      @RequestParam(defaultValue = "5") int size) {
+        log.info("Входящий запрос GET /bookings/owner?state={}&cursor={}&size={}. ID владельца: {}",
+                state, cursor, size, userId);
+        BookingRequestParams bookingRequestParams =
+                new BookingRequestParams(state, userId, 0, size, BookingCursor.decode(cursor));
         final List<BookingResponse> bookingResponseList = bookingService.getAllOwnerBookings(bookingRequestParams);
-        log.info("Исходящий ответ: {}", bookingResponseList);
-        return bookingResponseList;
+        return withNextCursor(bookingResponseList, size);
     }
 
     @PatchMapping("/{bookingId}")
@@ -63,17 +89,44 @@ public class BookingController {
                                                @PathVariable long bookingId,
                                                @RequestHeader("X-Sharer-User-Id") long ownerId) {
         log.info("Входящий запрос GET /bookings/{}?approved={}. ID владельца: {}", bookingId, approved, ownerId);
-        final BookingResponse bookingResponse = bookingService.updateBookingStatus(bookingId, approved, ownerId);
-        log.info("Исходящий ответ: {}", bookingResponse);
-        return bookingResponse;
+        return bookingService.updateBookingStatus(bookingId, approved, ownerId);
     }
 
     @PostMapping
     public BookingResponse createBooking(@RequestHeader("X-Sharer-User-Id") long userId,
                                          @RequestBody BookingRequest bookingRequest) {
         log.info("Входящий запрос POST /bookings. ID пользователя: {}.  BookingRequest: {}", userId, bookingRequest);
-        BookingResponse response = bookingService.create(bookingRequest, userId);
-        log.info("Исходящий ответ: {}", response);
-        return response;
+        return bookingService.create(bookingRequest, userId);
+    }
+
+    /*
+     * Пакетное создание: ответ содержит результат каждого элемента в порядке запроса
+     */
+    @PostMapping("/batch")
+    public List<BookingBatchResult> createBookings(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                   @RequestBody List<BookingRequest> bookingRequests) {
+        log.info("Входящий запрос POST /bookings/batch. ID пользователя: {}. Бронирований: {}",
+                userId, bookingRequests.size());
+        return bookingService.createAll(bookingRequests, userId);
+    }
+
+    @PatchMapping("/batch")
+    public List<BookingBatchResult> updateBookingStatuses(@RequestHeader("X-Sharer-User-Id") long ownerId,
+                                                          @RequestBody List<BookingStatusRequest> statusRequests) {
+        log.info("Входящий запрос PATCH /bookings/batch. ID владельца: {}. Решений: {}",
+                ownerId, statusRequests.size());
+        return bookingService.updateBookingStatuses(statusRequests, ownerId);
+    }
+
+    /*
+     * Если страница заполнена целиком, в заголовке X-Next-Cursor возвращается курсор следующей страницы
+     */
+    private ResponseEntity<List<BookingResponse>> withNextCursor(List<BookingResponse> bookingResponseList, int size) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+        if (!bookingResponseList.isEmpty() && bookingResponseList.size() == size) {
+            BookingResponse last = bookingResponseList.get(bookingResponseList.size() - 1);
+            responseBuilder.header(NEXT_CURSOR_HEADER, new BookingCursor(last.getStart(), last.getId()).encode());
+        }
+        return responseBuilder.body(bookingResponseList);
     }
 }
@@ -0,0 +1,31 @@
+package ru.practicum.shareit.booking;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.booking.lock")
+public class BookingLockProperties {
+
+    /*
+     * LOCAL - блокировки в памяти процесса, достаточно для одного экземпляра сервера;
+     * ADVISORY - транзакционные advisory-блокировки PostgreSQL, для нескольких экземпляров;
+     * NONE - без блокировок, пересечения одобренных бронирований отсекает только ограничение EXCLUDE
+     * из миграции V5 (PostgreSQL)
+     */
+    private Mode mode = Mode.LOCAL;
+
+    /*
+     * Число блокировок режима LOCAL, округляется вверх до степени двойки. Вещи с разными id делят блокировку
+     * с вероятностью 1/stripes
+     */
+    private int stripes = 1024;
+
+    public enum Mode {
+        LOCAL,
+        ADVISORY,
+        NONE
+    }
+}
@@ -2,58 +2,148 @@ package ru.practicum.shareit.booking;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.dto.BookingResponse;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.enums.BookingStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingBatchRepository {
 
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = ?1 ORDER BY b.start DESC")
     List<Booking> findByBookerIdOrderByStartDesc(long bookerId, Pageable page);
 
-    @Query("SELECT b FROM Booking b WHERE b.booker.id = ?1 " +
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = ?1 " +
             "AND b.start < CURRENT_TIMESTAMP AND b.end > CURRENT_TIMESTAMP ORDER BY b.start DESC")
     List<Booking> findByBookerIdCurrent(long bookerId, Pageable page);
 
-    @Query("SELECT b FROM Booking b WHERE b.booker.id = ?1 AND b.end < CURRENT_TIMESTAMP ORDER BY b.start DESC")
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = ?1 AND b.end < CURRENT_TIMESTAMP ORDER BY b.start DESC")
     List<Booking> findByBookerIdPast(long bookerId, Pageable page);
 
-    @Query("SELECT b FROM Booking b WHERE b.booker.id = ?1 AND start > CURRENT_TIMESTAMP ORDER BY b.start DESC")
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = ?1 AND b.start > CURRENT_TIMESTAMP ORDER BY b.start DESC")
     List<Booking> findByBookerIdFuture(long bookerId, Pageable page);
 
-    @Query("SELECT b FROM Booking b WHERE b.booker.id = ?1 AND b.status = 'WAITING' ORDER BY b.start DESC")
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = ?1 AND b.status = 'WAITING' ORDER BY b.start DESC")
     List<Booking> findByBookerIdWaiting(long bookerId, Pageable page);
 
-    @Query("SELECT b FROM Booking b WHERE b.booker.id = ?1 AND b.status = 'REJECTED' ORDER BY b.start DESC")
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = ?1 AND b.status = 'REJECTED' ORDER BY b.start DESC")
     List<Booking> findByBookerIdRejected(long bookerId, Pageable page);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.owner.id = ?1 " +
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = ?1 " +
             "AND b.start < CURRENT_TIMESTAMP AND b.end > CURRENT_TIMESTAMP ORDER BY b.start DESC")
     List<Booking> findByOwnerIdCurrent(long ownerId, Pageable page);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.owner.id = ?1 AND b.end < CURRENT_TIMESTAMP ORDER BY b.start DESC")
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = ?1 AND b.end < CURRENT_TIMESTAMP ORDER BY b.start DESC")
     List<Booking> findByOwnerIdPast(long ownerId, Pageable page);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.owner.id = ?1 AND start > CURRENT_TIMESTAMP ORDER BY b.start DESC")
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = ?1 AND b.start > CURRENT_TIMESTAMP ORDER BY b.start DESC")
     List<Booking> findByOwnerIdFuture(long ownerId, Pageable page);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.owner.id = ?1 AND b.status = 'WAITING' ORDER BY b.start DESC")
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = ?1 AND b.status = 'WAITING' ORDER BY b.start DESC")
     List<Booking> findByOwnerIdWaiting(long ownerId, Pageable page);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.owner.id = ?1 AND b.status = 'REJECTED' ORDER BY b.start DESC")
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = ?1 AND b.status = 'REJECTED' ORDER BY b.start DESC")
     List<Booking> findByOwnerIdRejected(long ownerId, Pageable page);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.owner.id = ?1 ORDER BY b.start DESC")
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = ?1 ORDER BY b.start DESC")
     List<Booking> findByOwnerIdAll(long ownerId, Pageable page);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.id = ?1 AND b.start < CURRENT_TIMESTAMP ORDER BY b.end DESC")
-    List<Booking> findLastBookingForItem(long itemId);
-
-    @Query("SELECT b FROM Booking b WHERE b.item.id = ?1 AND b.start > CURRENT_TIMESTAMP ORDER BY b.end ASC")
-    List<Booking> findNextBookingForItem(long itemId);
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = ?1 " +
+            "AND (b.start < ?2 OR (b.start = ?2 AND b.id < ?3)) ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findByBookerIdAllKeyset(long bookerId, LocalDateTime start, long id, Pageable page);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = ?1 " +
+            "AND b.start < CURRENT_TIMESTAMP AND b.end > CURRENT_TIMESTAMP " +
+            "AND (b.start < ?2 OR (b.start = ?2 AND b.id < ?3)) ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findByBookerIdCurrentKeyset(long bookerId, LocalDateTime start, long id, Pageable page);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = ?1 AND b.end < CURRENT_TIMESTAMP " +
+            "AND (b.start < ?2 OR (b.start = ?2 AND b.id < ?3)) ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findByBookerIdPastKeyset(long bookerId, LocalDateTime start, long id, Pageable page);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = ?1 AND b.start > CURRENT_TIMESTAMP " +
+            "AND (b.start < ?2 OR (b.start = ?2 AND b.id < ?3)) ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findByBookerIdFutureKeyset(long bookerId, LocalDateTime start, long id, Pageable page);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = ?1 AND b.status = 'WAITING' " +
+            "AND (b.start < ?2 OR (b.start = ?2 AND b.id < ?3)) ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findByBookerIdWaitingKeyset(long bookerId, LocalDateTime start, long id, Pageable page);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = ?1 AND b.status = 'REJECTED' " +
+            "AND (b.start < ?2 OR (b.start = ?2 AND b.id < ?3)) ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findByBookerIdRejectedKeyset(long bookerId, LocalDateTime start, long id, Pageable page);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = ?1 " +
+            "AND (b.start < ?2 OR (b.start = ?2 AND b.id < ?3)) ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findByOwnerIdAllKeyset(long ownerId, LocalDateTime start, long id, Pageable page);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = ?1 " +
+            "AND b.start < CURRENT_TIMESTAMP AND b.end > CURRENT_TIMESTAMP " +
+            "AND (b.start < ?2 OR (b.start = ?2 AND b.id < ?3)) ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findByOwnerIdCurrentKeyset(long ownerId, LocalDateTime start, long id, Pageable page);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = ?1 AND b.end < CURRENT_TIMESTAMP " +
+            "AND (b.start < ?2 OR (b.start = ?2 AND b.id < ?3)) ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findByOwnerIdPastKeyset(long ownerId, LocalDateTime start, long id, Pageable page);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = ?1 AND b.start > CURRENT_TIMESTAMP " +
+            "AND (b.start < ?2 OR (b.start = ?2 AND b.id < ?3)) ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findByOwnerIdFutureKeyset(long ownerId, LocalDateTime start, long id, Pageable page);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = ?1 AND b.status = 'WAITING' " +
+            "AND (b.start < ?2 OR (b.start = ?2 AND b.id < ?3)) ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findByOwnerIdWaitingKeyset(long ownerId, LocalDateTime start, long id, Pageable page);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = ?1 AND b.status = 'REJECTED' " +
+            "AND (b.start < ?2 OR (b.start = ?2 AND b.id < ?3)) ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findByOwnerIdRejectedKeyset(long ownerId, LocalDateTime start, long id, Pageable page);
+
+    @Query("SELECT new ru.practicum.shareit.booking.dto.BookingResponse(b.id, b.booker.id) FROM Booking b " +
+            "WHERE b.item.id = ?1 AND b.start < CURRENT_TIMESTAMP ORDER BY b.end DESC")
+    List<BookingResponse> findLastBookingForItem(long itemId, Pageable page);
+
+    @Query("SELECT new ru.practicum.shareit.booking.dto.BookingResponse(b.id, b.booker.id) FROM Booking b " +
+            "WHERE b.item.id = ?1 AND b.start > CURRENT_TIMESTAMP ORDER BY b.end ASC")
+    List<BookingResponse> findNextBookingForItem(long itemId, Pageable page);
+
+    @Query("SELECT b FROM Booking b WHERE b.item.id IN ?1 AND b.start < CURRENT_TIMESTAMP " +
+            "AND b.end = (SELECT MAX(l.end) FROM Booking l WHERE l.item.id = b.item.id AND l.start < CURRENT_TIMESTAMP)")
+    List<Booking> findLastBookingsForItems(Collection<Long> itemIds);
+
+    @Query("SELECT b FROM Booking b WHERE b.item.id IN ?1 AND b.start > CURRENT_TIMESTAMP " +
+            "AND b.end = (SELECT MIN(n.end) FROM Booking n WHERE n.item.id = b.item.id AND n.start > CURRENT_TIMESTAMP)")
+    List<Booking> findNextBookingsForItems(Collection<Long> itemIds);
 
     @Query("SELECT b FROM Booking b WHERE b.item.id = ?2 AND b.booker.id = ?1 AND b.end < CURRENT_TIMESTAMP")
     List<Booking> findAllByBookerIdAndItemIdAndAfterEnd(long bookerId, long itemId);
@@ -65,4 +155,53 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             "  AND b.start <= ?3 " +
             "  AND b.end >= ?2")
     boolean isAvailableForBooking(Long itemId, LocalDateTime start, LocalDateTime end);
+
+    /*
+     * Одобренные бронирования, завершившиеся раньше указанного времени. Последнее начатое бронирование вещи
+     * остаётся в bookings, чтобы findLastBookingsForItems не обращался к архиву
+     */
+    @Query("SELECT b.id FROM Booking b WHERE b.status = 'APPROVED' AND b.end < ?1 " +
+            "AND b.end < (SELECT MAX(l.end) FROM Booking l WHERE l.item.id = b.item.id AND l.start < CURRENT_TIMESTAMP) " +
+            "ORDER BY b.id ASC")
+    List<Long> findArchivableIds(LocalDateTime endBefore, Pageable page);
+
+    @Modifying
+    @Query("DELETE FROM Booking b WHERE b.id IN ?1")
+    int deleteByIdIn(Collection<Long> bookingIds);
+
+    /*
+     * Решение владельца одним запросом: статус меняется, только если бронирование ещё ожидает и вещь принадлежит
+     * ownerId, поэтому из одновременных решений применяется одно. 0 - ни одна строка не подошла
+     */
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = ?2 WHERE b.id = ?1 AND b.status = 'WAITING' " +
+            "AND b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = ?3)")
+    int updateWaitingStatus(long bookingId, BookingStatus status, long ownerId);
+
+    @Query("SELECT b.item.id FROM Booking b WHERE b.id = ?1")
+    Optional<Long> findItemIdById(long bookingId);
+
+    @Query("SELECT b.item.id FROM Booking b WHERE b.id IN ?1")
+    List<Long> findItemIdsByIdIn(Collection<Long> bookingIds);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker WHERE b.id IN ?1")
+    List<Booking> findWithItemAndBookerByIdIn(Collection<Long> bookingIds);
+
+    /*
+     * Одобренные бронирования вещей, не завершившиеся раньше указанного времени, - кандидаты на пересечение
+     * при пакетном создании и одобрении
+     */
+    @Query("SELECT b FROM Booking b WHERE b.item.id IN ?1 AND b.status = 'APPROVED' AND b.end >= ?2")
+    List<Booking> findApprovedByItemIdInAndEndFrom(Collection<Long> itemIds, LocalDateTime from);
+
+    /*
+     * Пересекается ли бронирование с другим одобренным бронированием той же вещи
+     */
+    @Query("SELECT (count(o) > 0) FROM Booking o, Booking b " +
+            "WHERE b.id = ?1 AND o.item.id = b.item.id AND o.id <> b.id AND o.status = 'APPROVED' " +
+            "AND o.end >= b.start AND o.start <= b.end")
+    boolean hasApprovedOverlap(long bookingId);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker WHERE b.id = ?1")
+    Optional<Booking> findWithItemAndBookerById(long bookingId);
 }
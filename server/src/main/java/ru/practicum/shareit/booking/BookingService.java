@@ -1,7 +1,9 @@
 package ru.practicum.shareit.booking;
 
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingRequest;
 import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.dto.BookingStatusRequest;
 import ru.practicum.shareit.booking.model.BookingRequestParams;
 
 import java.util.List;
@@ -12,6 +14,10 @@ public interface BookingService {
 
     BookingResponse updateBookingStatus(long bookingId, boolean approved, long ownerId);
 
+    List<BookingBatchResult> createAll(List<BookingRequest> bookingRequests, long bookerId);
+
+    List<BookingBatchResult> updateBookingStatuses(List<BookingStatusRequest> statusRequests, long ownerId);
+
     BookingResponse getBookingByIdForOwnerOrAuthor(long bookingId, Long userId);
 
     List<BookingResponse> getAllUserBookings(BookingRequestParams bookingRequestParams);
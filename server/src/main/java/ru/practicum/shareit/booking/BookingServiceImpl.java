@@ -1,14 +1,22 @@
 package ru.practicum.shareit.booking;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingRequest;
 import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.dto.BookingStatusRequest;
+import ru.practicum.shareit.booking.model.ArchivedBooking;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingCursor;
 import ru.practicum.shareit.booking.model.BookingRequestParams;
 import ru.practicum.shareit.enums.States;
 import ru.practicum.shareit.exception.*;
@@ -19,12 +27,24 @@ import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static ru.practicum.shareit.enums.BookingStatus.*;
 
 @Service
+@Timed(value = "shareit.service", histogram = true)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Slf4j
@@ -33,12 +53,21 @@ public class BookingServiceImpl implements BookingService {
     @Autowired
     private final BookingRepository bookingRepository;
 
+    @Autowired
+    private final BookingArchiveRepository bookingArchiveRepository;
+
+    @Autowired
+    private final BookingArchiveProperties bookingArchiveProperties;
+
     @Autowired
     private final ItemService itemService;
 
     @Autowired
     private final UserService userService;
 
+    @Autowired
+    private final ItemBookingLock itemBookingLock;
+
     @Transactional
     @Override
     public BookingResponse create(BookingRequest bookingRequest, long bookerId) {
@@ -54,23 +83,140 @@ public class BookingServiceImpl implements BookingService {
     @Transactional
     @Override
     public BookingResponse updateBookingStatus(long bookingId, boolean approved, long ownerId) {
-        Booking booking = getBookingById(bookingId);
-        if (!booking.getStatus().equals(WAITING)) {
-            log.error("Бронирование уже проверено владельцем");
-            throw new BookingAlreadyVerifiedByOwnerException("Бронирование уже проверено владельцем");
-        }
-        itemService.checkUserItem(ownerId, booking.getItem().getId());
         if (approved) {
-            booking.setStatus(APPROVED);
-        } else {
-            booking.setStatus(REJECTED);
+            approve(bookingId, ownerId);
+        } else if (bookingRepository.updateWaitingStatus(bookingId, REJECTED, ownerId) == 0) {
+            throwStatusNotUpdated(bookingId, ownerId);
         }
-        return BookingMapper.toBookingResponse(bookingRepository.save(booking));
+        return BookingMapper.toBookingResponse(bookingRepository.findWithItemAndBookerById(bookingId).orElseThrow());
+    }
+
+    /*
+     * Пакет проверяется целиком в памяти по заранее загруженным вещам и одобренным бронированиям и
+     * записывается одним JDBC-пакетом. Отказ элемента не прерывает пакет и не откатывает транзакцию
+     */
+    @Transactional
+    @Override
+    public List<BookingBatchResult> createAll(List<BookingRequest> bookingRequests, long bookerId) {
+        final User booker = userService.getUserById(bookerId);
+        Set<Long> itemIds = bookingRequests.stream().map(BookingRequest::getItemId).collect(Collectors.toSet());
+        Map<Long, Item> items = itemService.getItemsByIds(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        Map<Long, List<Booking>> approvedByItem = findApprovedByItem(items.keySet(),
+                bookingRequests.stream().map(BookingRequest::getStart));
+
+        BookingBatchResult[] results = new BookingBatchResult[bookingRequests.size()];
+        List<Booking> created = new ArrayList<>();
+        for (int index = 0; index < results.length; index++) {
+            long itemId = bookingRequests.get(index).getItemId();
+            Booking booking = BookingMapper.toBookingEntity(bookingRequests.get(index));
+            booking.setBooker(booker);
+            booking.setItem(items.get(itemId));
+            results[index] = batchFailure(index, () -> {
+                if (booking.getItem() == null) {
+                    log.error("Вещь с ID {} не существует", itemId);
+                    throw new ItemNotFoundException(String.format("Вещь с ID %d не существует", itemId));
+                }
+                checkBooking(booking, booking.getItem(), overlaps(approvedByItem.getOrDefault(itemId, List.of()),
+                        booking.getStart(), booking.getEnd()));
+            });
+            if (results[index] == null) {
+                created.add(booking);
+            }
+        }
+        bookingRepository.insertAll(created);
+        Iterator<Booking> createdBookings = created.iterator();
+        for (int index = 0; index < results.length; index++) {
+            if (results[index] == null) {
+                results[index] = new BookingBatchResult(index, HttpStatus.CREATED.value(),
+                        BookingMapper.toBookingResponse(createdBookings.next()), null);
+            }
+        }
+        log.info("Пакет бронирований пользователя с ID: {} обработан, создано {} из {}",
+                bookerId, created.size(), results.length);
+        return Arrays.asList(results);
+    }
+
+    /*
+     * Бронирования загружаются после блокировки их вещей; одобрение проверяет пересечения и с одобренными
+     * в базе, и с одобренными ранее в этом же пакете. Статусы записываются пакетом UPDATE при сбросе контекста
+     */
+    @Transactional
+    @Override
+    public List<BookingBatchResult> updateBookingStatuses(List<BookingStatusRequest> statusRequests, long ownerId) {
+        Set<Long> bookingIds = statusRequests.stream()
+                .map(BookingStatusRequest::getBookingId)
+                .collect(Collectors.toSet());
+        if (bookingIds.isEmpty()) {
+            return List.of();
+        }
+        /*
+         * Без блокировок параллельное одобрение отклонило бы ограничением V5 весь пакет при фиксации,
+         * не указав, какой элемент пересёкся; одиночные одобрения в этом режиме по-прежнему доступны
+         */
+        if (!itemBookingLock.isEnabled() && statusRequests.stream().anyMatch(BookingStatusRequest::isApproved)) {
+            log.error("Пакетное одобрение бронирований недоступно без блокировок вещей");
+            throw new BookingBatchApprovalUnsupportedException("Пакетное одобрение бронирований недоступно " +
+                    "при shareit.booking.lock.mode=none, одобряйте бронирования через PATCH /bookings/{bookingId}");
+        }
+        itemBookingLock.lockAll(bookingRepository.findItemIdsByIdIn(bookingIds));
+        Map<Long, Booking> bookings = bookingRepository.findWithItemAndBookerByIdIn(bookingIds).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+        Set<Long> archivedIds = findArchivedIds(bookingIds, bookings.keySet());
+        List<Booking> toApprove = statusRequests.stream()
+                .filter(BookingStatusRequest::isApproved)
+                .map(statusRequest -> bookings.get(statusRequest.getBookingId()))
+                .filter(booking -> booking != null && booking.getStatus() == WAITING)
+                .collect(Collectors.toList());
+        Map<Long, List<Booking>> approvedByItem = findApprovedByItem(
+                toApprove.stream().map(booking -> booking.getItem().getId()).collect(Collectors.toSet()),
+                toApprove.stream().map(Booking::getStart));
+
+        List<BookingBatchResult> results = new ArrayList<>(statusRequests.size());
+        for (int index = 0; index < statusRequests.size(); index++) {
+            long bookingId = statusRequests.get(index).getBookingId();
+            boolean approved = statusRequests.get(index).isApproved();
+            Booking booking = bookings.get(bookingId);
+            BookingBatchResult failure = batchFailure(index, () -> {
+                if (booking == null) {
+                    throw archivedIds.contains(bookingId) ? alreadyVerified() : bookingNotFound(bookingId);
+                }
+                if (booking.getStatus() != WAITING) {
+                    throw alreadyVerified();
+                }
+                checkOwner(ownerId, booking.getItem());
+                if (approved) {
+                    List<Booking> approvedBookings = approvedByItem.computeIfAbsent(booking.getItem().getId(),
+                            itemId -> new ArrayList<>());
+                    if (overlaps(approvedBookings, booking.getStart(), booking.getEnd())) {
+                        throw approvedOverlap(bookingId);
+                    }
+                    approvedBookings.add(booking);
+                }
+                booking.setStatus(approved ? APPROVED : REJECTED);
+            });
+            results.add(failure != null ? failure : new BookingBatchResult(index, HttpStatus.OK.value(),
+                    BookingMapper.toBookingResponse(booking), null));
+        }
+        /*
+         * Под блокировкой вещей пересечение здесь возможно, только если бронирования тех же вещей одобряет
+         * экземпляр сервера с другой блокировкой (например, local на нескольких экземплярах). Транзакция
+         * после ошибки ограничения не продолжается, поэтому пакет отклоняется целиком и ни одно решение не сохраняется
+         */
+        try {
+            bookingRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            log.error("Одобряемые бронирования пересекаются с уже одобренными бронированиями вещей, пакет отклонён");
+            throw new ItemIsUnavailableException("Одобряемые бронирования пересекаются " +
+                    "с уже одобренными бронированиями вещей, ни одно решение пакета не сохранено");
+        }
+        log.info("Пакет из {} решений владельца с ID: {} обработан", results.size(), ownerId);
+        return results;
     }
 
     @Override
     public BookingResponse getBookingByIdForOwnerOrAuthor(long bookingId, Long userId) {
-        userService.getUserById(userId);
+        userService.checkUserExists(userId);
         Booking booking = getBookingById(bookingId);
         final long bookerId = booking.getBooker().getId();
         final long ownerId = booking.getItem().getOwner().getId();
@@ -92,12 +238,19 @@ public class BookingServiceImpl implements BookingService {
         int from = bookingRequestParams.getFrom();
         int size = bookingRequestParams.getSize();
         PageRequest page = PageRequest.of(from > 0 ? from / size : 0, size);
-        userService.getUserById(bookerId);
+        userService.checkUserExists(bookerId);
+        if (bookingRequestParams.getCursor() != null) {
+            return BookingMapper.toBookingResponseList(
+                    findUserBookingsAfter(state, bookerId, bookingRequestParams.getCursor(), PageRequest.of(0, size)));
+        }
         switch (state) {
             case CURRENT:
                 return BookingMapper.toBookingResponseList(bookingRepository.findByBookerIdCurrent(bookerId, page));
             case PAST:
-                return BookingMapper.toBookingResponseList(bookingRepository.findByBookerIdPast(bookerId, page));
+                return BookingMapper.toBookingResponseList(withArchive(
+                        bookingRepository.findByBookerIdPast(bookerId, page), page,
+                        top -> bookingRepository.findByBookerIdPast(bookerId, top),
+                        top -> bookingArchiveRepository.findByBookerId(bookerId, top)));
             case FUTURE:
                 return BookingMapper.toBookingResponseList(bookingRepository.findByBookerIdFuture(bookerId, page));
             case WAITING:
@@ -105,8 +258,10 @@ public class BookingServiceImpl implements BookingService {
             case REJECTED:
                 return BookingMapper.toBookingResponseList(bookingRepository.findByBookerIdRejected(bookerId, page));
             case ALL:
-                return BookingMapper.toBookingResponseList(bookingRepository
-                        .findByBookerIdOrderByStartDesc(bookerId, page));
+                return BookingMapper.toBookingResponseList(withArchive(
+                        bookingRepository.findByBookerIdOrderByStartDesc(bookerId, page), page,
+                        top -> bookingRepository.findByBookerIdOrderByStartDesc(bookerId, top),
+                        top -> bookingArchiveRepository.findByBookerId(bookerId, top)));
             default:
                 throw new FailStateException("Unknown state: UNSUPPORTED_STATUS");
         }
@@ -119,12 +274,19 @@ public class BookingServiceImpl implements BookingService {
         int from = bookingRequestParams.getFrom();
         int size = bookingRequestParams.getSize();
         PageRequest page = PageRequest.of(from > 0 ? from / size : 0, size);
-        userService.getUserById(ownerId);
+        userService.checkUserExists(ownerId);
+        if (bookingRequestParams.getCursor() != null) {
+            return BookingMapper.toBookingResponseList(
+                    findOwnerBookingsAfter(state, ownerId, bookingRequestParams.getCursor(), PageRequest.of(0, size)));
+        }
         switch (state) {
             case CURRENT:
                 return BookingMapper.toBookingResponseList(bookingRepository.findByOwnerIdCurrent(ownerId, page));
             case PAST:
-                return BookingMapper.toBookingResponseList(bookingRepository.findByOwnerIdPast(ownerId, page));
+                return BookingMapper.toBookingResponseList(withArchive(
+                        bookingRepository.findByOwnerIdPast(ownerId, page), page,
+                        top -> bookingRepository.findByOwnerIdPast(ownerId, top),
+                        top -> bookingArchiveRepository.findByOwnerId(ownerId, top)));
             case FUTURE:
                 return BookingMapper.toBookingResponseList(bookingRepository.findByOwnerIdFuture(ownerId, page));
             case WAITING:
@@ -132,27 +294,208 @@ public class BookingServiceImpl implements BookingService {
             case REJECTED:
                 return BookingMapper.toBookingResponseList(bookingRepository.findByOwnerIdRejected(ownerId, page));
             case ALL:
-                return BookingMapper.toBookingResponseList(bookingRepository.findByOwnerIdAll(ownerId, page));
+                return BookingMapper.toBookingResponseList(withArchive(
+                        bookingRepository.findByOwnerIdAll(ownerId, page), page,
+                        top -> bookingRepository.findByOwnerIdAll(ownerId, top),
+                        top -> bookingArchiveRepository.findByOwnerId(ownerId, top)));
             default:
                 throw new FailStateException("Unknown state: UNSUPPORTED_STATUS");
         }
     }
 
+    private List<Booking> findUserBookingsAfter(States state, long bookerId, BookingCursor cursor, Pageable page) {
+        LocalDateTime start = cursor.getStart();
+        long id = cursor.getId();
+        switch (state) {
+            case CURRENT:
+                return bookingRepository.findByBookerIdCurrentKeyset(bookerId, start, id, page);
+            case PAST:
+                return withArchive(bookingRepository.findByBookerIdPastKeyset(bookerId, start, id, page), page,
+                        top -> bookingRepository.findByBookerIdPastKeyset(bookerId, start, id, top),
+                        top -> bookingArchiveRepository.findByBookerIdKeyset(bookerId, start, id, top));
+            case FUTURE:
+                return bookingRepository.findByBookerIdFutureKeyset(bookerId, start, id, page);
+            case WAITING:
+                return bookingRepository.findByBookerIdWaitingKeyset(bookerId, start, id, page);
+            case REJECTED:
+                return bookingRepository.findByBookerIdRejectedKeyset(bookerId, start, id, page);
+            case ALL:
+                return withArchive(bookingRepository.findByBookerIdAllKeyset(bookerId, start, id, page), page,
+                        top -> bookingRepository.findByBookerIdAllKeyset(bookerId, start, id, top),
+                        top -> bookingArchiveRepository.findByBookerIdKeyset(bookerId, start, id, top));
+            default:
+                throw new FailStateException("Unknown state: UNSUPPORTED_STATUS");
+        }
+    }
+
+    private List<Booking> findOwnerBookingsAfter(States state, long ownerId, BookingCursor cursor, Pageable page) {
+        LocalDateTime start = cursor.getStart();
+        long id = cursor.getId();
+        switch (state) {
+            case CURRENT:
+                return bookingRepository.findByOwnerIdCurrentKeyset(ownerId, start, id, page);
+            case PAST:
+                return withArchive(bookingRepository.findByOwnerIdPastKeyset(ownerId, start, id, page), page,
+                        top -> bookingRepository.findByOwnerIdPastKeyset(ownerId, start, id, top),
+                        top -> bookingArchiveRepository.findByOwnerIdKeyset(ownerId, start, id, top));
+            case FUTURE:
+                return bookingRepository.findByOwnerIdFutureKeyset(ownerId, start, id, page);
+            case WAITING:
+                return bookingRepository.findByOwnerIdWaitingKeyset(ownerId, start, id, page);
+            case REJECTED:
+                return bookingRepository.findByOwnerIdRejectedKeyset(ownerId, start, id, page);
+            case ALL:
+                return withArchive(bookingRepository.findByOwnerIdAllKeyset(ownerId, start, id, page), page,
+                        top -> bookingRepository.findByOwnerIdAllKeyset(ownerId, start, id, top),
+                        top -> bookingArchiveRepository.findByOwnerIdKeyset(ownerId, start, id, top));
+            default:
+                throw new FailStateException("Unknown state: UNSUPPORTED_STATUS");
+        }
+    }
+
+    /*
+     * Одобренные бронирования старше срока хранения лежат в архиве, и все они начались раньше горизонта
+     * now - retention. Архив нужен, только если страница не заполнена или доходит до этого горизонта;
+     * тогда верхние offset + size строк обеих таблиц сливаются в порядке (start DESC, id DESC)
+     */
+    private List<Booking> withArchive(List<Booking> hotPage, Pageable page,
+                                      Function<Pageable, List<Booking>> hotQuery,
+                                      Function<Pageable, List<ArchivedBooking>> archiveQuery) {
+        LocalDateTime horizon = LocalDateTime.now().minus(bookingArchiveProperties.getRetention());
+        if (hotPage.size() == page.getPageSize() && !hotPage.get(hotPage.size() - 1).getStart().isBefore(horizon)) {
+            return hotPage;
+        }
+        int offset = (int) page.getOffset();
+        PageRequest top = PageRequest.of(0, offset + page.getPageSize());
+        List<Booking> merged = new ArrayList<>(offset == 0 ? hotPage : hotQuery.apply(top));
+        archiveQuery.apply(top).forEach(archived -> merged.add(BookingMapper.toBookingEntity(archived)));
+        return merged.stream()
+                .sorted(Comparator.comparing(Booking::getStart).thenComparing(Booking::getId).reversed())
+                .skip(offset)
+                .limit(page.getPageSize())
+                .collect(Collectors.toList());
+    }
+
+    /*
+     * Одобрение под блокировкой вещи: два одобрения пересекающихся бронирований не проходят одновременно.
+     * Пересечение проверяется после обновления, чтобы отказ по владельцу или статусу имел приоритет;
+     * исключение откатывает обновление
+     */
+    private void approve(long bookingId, long ownerId) {
+        bookingRepository.findItemIdById(bookingId).ifPresent(itemBookingLock::lock);
+        int updated;
+        try {
+            updated = bookingRepository.updateWaitingStatus(bookingId, APPROVED, ownerId);
+        } catch (DataIntegrityViolationException e) {
+            throw approvedOverlap(bookingId);
+        }
+        if (updated == 0) {
+            throwStatusNotUpdated(bookingId, ownerId);
+        }
+        if (bookingRepository.hasApprovedOverlap(bookingId)) {
+            throw approvedOverlap(bookingId);
+        }
+    }
+
+    private ItemIsUnavailableException approvedOverlap(long bookingId) {
+        log.error("Бронирование с ID: {} пересекается с уже одобренным бронированием вещи", bookingId);
+        return new ItemIsUnavailableException(String.format("Бронирование с ID: %d пересекается " +
+                "с уже одобренным бронированием вещи", bookingId));
+    }
+
+    /*
+     * Отказ элемента пакета превращается в результат с кодом, который вернул бы одиночный запрос.
+     * Проверки не проходят через транзакционные прокси сервисов, иначе отказ пометил бы всю транзакцию к откату
+     */
+    private BookingBatchResult batchFailure(int index, Runnable check) {
+        try {
+            check.run();
+            return null;
+        } catch (ItemNotFoundException | UserHaveNoSuchItemException | BookingNotFoundException e) {
+            return new BookingBatchResult(index, HttpStatus.NOT_FOUND.value(), null, e.getMessage());
+        } catch (ItemIsUnavailableException | BookingWrongTimeException | BookingAlreadyVerifiedByOwnerException e) {
+            return new BookingBatchResult(index, HttpStatus.BAD_REQUEST.value(), null, e.getMessage());
+        }
+    }
+
+    /*
+     * Одобренные бронирования вещей, которые могут пересечься с бронированиями, начинающимися не раньше from
+     */
+    private Map<Long, List<Booking>> findApprovedByItem(Set<Long> itemIds, Stream<LocalDateTime> starts) {
+        Optional<LocalDateTime> from = starts.filter(Objects::nonNull).min(Comparator.naturalOrder());
+        if (itemIds.isEmpty() || from.isEmpty()) {
+            return new HashMap<>();
+        }
+        return bookingRepository.findApprovedByItemIdInAndEndFrom(itemIds, from.get()).stream()
+                .collect(Collectors.groupingBy(booking -> booking.getItem().getId()));
+    }
+
+    private Set<Long> findArchivedIds(Set<Long> bookingIds, Set<Long> foundIds) {
+        List<Long> missingIds = bookingIds.stream()
+                .filter(bookingId -> !foundIds.contains(bookingId))
+                .collect(Collectors.toList());
+        if (missingIds.isEmpty()) {
+            return Set.of();
+        }
+        return bookingArchiveRepository.findAllById(missingIds).stream()
+                .map(ArchivedBooking::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private static boolean overlaps(List<Booking> bookings, LocalDateTime start, LocalDateTime end) {
+        return bookings.stream().anyMatch(booking -> !booking.getEnd().isBefore(start)
+                && !booking.getStart().isAfter(end));
+    }
+
+    private void checkOwner(long ownerId, Item item) {
+        if (item.getOwner().getId() != ownerId) {
+            log.error("Пользователь с ID: {} не является владельцем вещи с ID: {}", ownerId, item.getId());
+            throw new UserHaveNoSuchItemException(String.format("Пользователь с ID: %d " +
+                    "не является владельцем вещи с ID: %d", ownerId, item.getId()));
+        }
+    }
+
+    /*
+     * Условное обновление не затронуло строку: прежние проверки по порядку объясняют почему
+     */
+    private void throwStatusNotUpdated(long bookingId, long ownerId) {
+        Booking booking = getBookingById(bookingId);
+        if (booking.getStatus().equals(WAITING)) {
+            itemService.checkUserItem(ownerId, booking.getItem().getId());
+        }
+        throw alreadyVerified();
+    }
+
+    private BookingAlreadyVerifiedByOwnerException alreadyVerified() {
+        log.error("Бронирование уже проверено владельцем");
+        return new BookingAlreadyVerifiedByOwnerException("Бронирование уже проверено владельцем");
+    }
+
     private Booking getBookingById(long bookingId) {
-        final Optional<Booking> bookingOptional = bookingRepository.findById(bookingId);
+        final Optional<Booking> bookingOptional = bookingRepository.findById(bookingId)
+                .or(() -> bookingArchiveRepository.findById(bookingId).map(BookingMapper::toBookingEntity));
         if (bookingOptional.isEmpty()) {
-            log.error("Бронирования с ID {} не существует", bookingId);
-            throw new BookingNotFoundException(String.format("Бронирования с ID %d не существует", bookingId));
+            throw bookingNotFound(bookingId);
         }
         return bookingOptional.get();
     }
 
+    private BookingNotFoundException bookingNotFound(long bookingId) {
+        log.error("Бронирования с ID {} не существует", bookingId);
+        return new BookingNotFoundException(String.format("Бронирования с ID %d не существует", bookingId));
+    }
+
     private void checkBooking(Booking booking, Item item) {
+        checkBooking(booking, item,
+                bookingRepository.isAvailableForBooking(item.getId(), booking.getStart(), booking.getEnd()));
+    }
+
+    private void checkBooking(Booking booking, Item item, boolean overlapsApproved) {
         Long itemId = item.getId();
         LocalDateTime start = booking.getStart();
         LocalDateTime end = booking.getEnd();
 
-        if (bookingRepository.isAvailableForBooking(itemId, start, end)) {
+        if (overlapsApproved) {
             log.error("Запрашиваемая вещь с ID: {} забронирована на указанное время", itemId);
             throw new ItemIsUnavailableException(String.format("Запрашиваемая вещь " +
                     "с ID: %d забронирована на указанное время", itemId));
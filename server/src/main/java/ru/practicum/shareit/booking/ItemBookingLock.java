@@ -0,0 +1,107 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Блокировка вещи на время транзакции одобрения: проверка пересечений с одобренными бронированиями и запись
+ * одобрения выполняются строго по очереди, одобрения бронирований разных вещей друг друга не ждут.
+ * Создание бронирований не блокируется: новое бронирование в статусе WAITING ни с чем не конфликтует,
+ * а пересечения с одобренными повторно проверяются при его одобрении.
+ * Блокировка снимается после фиксации или отката транзакции, иначе параллельная транзакция успела бы
+ * проверить пересечения до того, как станет видна запись первой
+ */
+@Component
+public class ItemBookingLock {
+
+    /*
+     * pg_advisory_xact_lock возвращает void, а столбец типа void драйвер PostgreSQL отдаёт как Types.OTHER,
+     * для которого у Hibernate нет отображения, и getSingleResult падает. Функция вызывается во FROM,
+     * а запрос возвращает обычное число
+     */
+    static final String ADVISORY_LOCK_QUERY = "SELECT 1 FROM pg_advisory_xact_lock(?1)";
+
+    private final BookingLockProperties.Mode mode;
+
+    private final ReentrantLock[] stripes;
+
+    private final EntityManager entityManager;
+
+    public ItemBookingLock(BookingLockProperties properties, EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.mode = properties.getMode();
+        int size = 1;
+        while (size < properties.getStripes()) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[mode == BookingLockProperties.Mode.LOCAL ? size : 0];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /*
+     * false в режиме NONE: параллельные одобрения не упорядочены, пересечение обнаружит только ограничение V5
+     */
+    public boolean isEnabled() {
+        return mode != BookingLockProperties.Mode.NONE;
+    }
+
+    public void lock(long itemId) {
+        lockAll(List.of(itemId));
+    }
+
+    /*
+     * Несколько вещей блокируются в одном порядке - по номеру блокировки или по id вещи,
+     * поэтому две пакетные транзакции с пересекающимися вещами не ждут друг друга взаимно
+     */
+    public void lockAll(Collection<Long> itemIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Блокировка вещи возможна только внутри транзакции");
+        }
+        switch (mode) {
+            case LOCAL:
+                itemIds.stream()
+                        .mapToInt(this::stripeIndex)
+                        .distinct()
+                        .sorted()
+                        .forEach(index -> lockStripe(stripes[index]));
+                break;
+            case ADVISORY:
+                itemIds.stream()
+                        .distinct()
+                        .sorted()
+                        .forEach(itemId -> entityManager.createNativeQuery(ADVISORY_LOCK_QUERY)
+                                .setParameter(1, itemId)
+                                .getSingleResult());
+                break;
+            default:
+                break;
+        }
+    }
+
+    ReentrantLock stripeFor(long itemId) {
+        return stripes[stripeIndex(itemId)];
+    }
+
+    private int stripeIndex(long itemId) {
+        long hash = itemId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ hash >>> 32) & (stripes.length - 1);
+    }
+
+    private static void lockStripe(ReentrantLock lock) {
+        lock.lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+}
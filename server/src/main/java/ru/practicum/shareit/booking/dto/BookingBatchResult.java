@@ -0,0 +1,23 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+ * Результат одного элемента пакета: status - HTTP-код, который вернул бы одиночный запрос,
+ * booking заполнен при успехе, error - при отказе
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingBatchResult {
+
+    private int index;
+
+    private int status;
+
+    private BookingResponse booking;
+
+    private String error;
+}
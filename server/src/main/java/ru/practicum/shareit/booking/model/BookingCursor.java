@@ -0,0 +1,50 @@
+package ru.practicum.shareit.booking.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import ru.practicum.shareit.exception.BookingWrongCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/*
+ * Позиция в списке бронирований, отсортированном по (start DESC, id DESC).
+ * Клиенту передается в виде непрозрачной строки.
+ */
+@Data
+@AllArgsConstructor
+public class BookingCursor {
+
+    private static final LocalDateTime FIRST_PAGE_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private static final char SEPARATOR = '_';
+
+    LocalDateTime start;
+
+    long id;
+
+    public static BookingCursor first() {
+        return new BookingCursor(FIRST_PAGE_START, Long.MAX_VALUE);
+    }
+
+    public static BookingCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return first();
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = value.lastIndexOf(SEPARATOR);
+            return new BookingCursor(LocalDateTime.parse(value.substring(0, separatorIndex)),
+                    Long.parseLong(value.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new BookingWrongCursorException(String.format("Некорректный курсор страницы: %s", token));
+        }
+    }
+
+    public String encode() {
+        String value = start.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
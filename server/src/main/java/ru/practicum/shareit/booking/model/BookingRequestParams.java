@@ -15,4 +15,13 @@ public class BookingRequestParams {
     int from;
 
     int size;
+
+    BookingCursor cursor;
+
+    public BookingRequestParams(States state, Long userId, int from, int size) {
+        this.state = state;
+        this.userId = userId;
+        this.from = from;
+        this.size = size;
+    }
 }
@@ -1,10 +1,12 @@
 package ru.practicum.shareit.comments;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.BookingArchiveRepository;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.comments.dto.CommentRequest;
@@ -20,6 +22,7 @@ import ru.practicum.shareit.user.model.User;
 import java.util.List;
 
 @Service
+@Timed(value = "shareit.service", histogram = true)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Slf4j
@@ -37,6 +40,9 @@ public class CommentServiceImpl implements CommentService {
     @Autowired
     private final BookingRepository bookingRepository;
 
+    @Autowired
+    private final BookingArchiveRepository bookingArchiveRepository;
+
 
     @Transactional
     @Override
@@ -54,7 +60,8 @@ public class CommentServiceImpl implements CommentService {
     private void checkBookingItem(long itemId, long userId) {
         List<Booking> bookingsByItemIdAndUserId = bookingRepository
                 .findAllByBookerIdAndItemIdAndAfterEnd(userId, itemId);
-        if (bookingsByItemIdAndUserId.size() == 0) {
+        if (bookingsByItemIdAndUserId.size() == 0
+                && !bookingArchiveRepository.existsByBookerIdAndItemId(userId, itemId)) {
             log.error("У пользователя с ID: {} " +
                     "нет завершенных бронирований по вещи с ID: {}}", userId, itemId);
             throw new NoCompletedBookingsException(String.format("У пользователя с ID: %d " +
@@ -0,0 +1,31 @@
+package ru.practicum.shareit.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.cache")
+public class EntityCacheProperties {
+
+    private boolean enabled = true;
+
+    /*
+     * Сущностей в каждом регионе (User, Item, ItemRequest), при переполнении вытесняются редко используемые
+     */
+    private long maximumSize = 10_000;
+
+    /*
+     * Кэш локален для экземпляра сервера: изменения, сделанные другими экземплярами, видны не позже этого срока
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    /*
+     * Статистика Hibernate считается в каждой сессии, поэтому включается только там, где экспортируется
+     * метрика hibernate.second.level.cache.requests
+     */
+    private boolean statistics = false;
+}
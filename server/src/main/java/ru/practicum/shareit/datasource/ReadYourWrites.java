@@ -0,0 +1,58 @@
+package ru.practicum.shareit.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Чтение своих записей: изменяющий запрос и чтения того же пользователя в течение stickiness после него
+ * идут на основную базу, чтобы не получить с реплики состояние до собственной записи.
+ * Сроки записей хранятся в памяти одного экземпляра сервера: при нескольких экземплярах за балансировщиком
+ * чтение, попавшее не на тот экземпляр, где прошла запись, может уйти на отстающую реплику.
+ */
+public class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final long stickinessNanos;
+
+    private final Map<Long, Long> writeDeadlines = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(Duration stickiness) {
+        this.stickinessNanos = stickiness.toNanos();
+    }
+
+    void start(Long userId, boolean write) {
+        if (write || userId != null && isSticky(userId)) {
+            PINNED.set(true);
+        }
+    }
+
+    void finish(Long userId, boolean written) {
+        PINNED.remove();
+        if (written && userId != null) {
+            writeDeadlines.put(userId, System.nanoTime() + stickinessNanos);
+        }
+    }
+
+    boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.datasource.routing.stickiness:PT5S}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        writeDeadlines.values().removeIf(deadline -> deadline - now <= 0);
+    }
+
+    int size() {
+        return writeDeadlines.size();
+    }
+
+    private boolean isSticky(long userId) {
+        Long deadline = writeDeadlines.get(userId);
+        return deadline != null && deadline - System.nanoTime() > 0;
+    }
+}
@@ -0,0 +1,74 @@
+package ru.practicum.shareit.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Периодически измеряет отставание реплик и сообщает ReplicaRoutingDataSource, какие из них можно читать.
+ * Недоступная реплика считается бесконечно отстающей
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder {
+
+    static final String METRIC_NAME = "shareit.datasource.replica.lag";
+
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    private final ReplicaRoutingProperties properties;
+
+    private final Map<String, Double> lags = new ConcurrentHashMap<>();
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, ReplicaRoutingProperties properties) {
+        this.routingDataSource = routingDataSource;
+        this.properties = properties;
+        routingDataSource.getReplicas().keySet().forEach(replica -> lags.put(replica, Double.NaN));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String replica : lags.keySet()) {
+            Gauge.builder(METRIC_NAME, lags, values -> values.get(replica))
+                    .description("Отставание реплики от основной базы")
+                    .baseUnit("seconds")
+                    .tag("replica", replica)
+                    .register(registry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.datasource.routing.lag-check-interval:PT1S}")
+    public void check() {
+        double maxLag = properties.getMaxLag().toMillis() / 1000.0;
+        List<String> available = new ArrayList<>();
+        for (Map.Entry<String, DataSource> replica : routingDataSource.getReplicas().entrySet()) {
+            double lag = lag(replica.getKey(), replica.getValue());
+            Double previous = lags.put(replica.getKey(), lag);
+            boolean wasAvailable = previous != null && previous <= maxLag;
+            if (lag <= maxLag) {
+                available.add(replica.getKey());
+            } else if (wasAvailable) {
+                log.warn("Реплика {} отстаёт на {} с и исключена из чтения", replica.getKey(), lag);
+            }
+        }
+        routingDataSource.setAvailableReplicas(available);
+    }
+
+    private double lag(String name, DataSource replica) {
+        try {
+            Double lag = new JdbcTemplate(replica).queryForObject(properties.getLagQuery(), Double.class);
+            return lag == null ? 0 : lag;
+        } catch (RuntimeException e) {
+            log.warn("Не удалось измерить отставание реплики {}: {}", name, e.getMessage());
+            return Double.POSITIVE_INFINITY;
+        }
+    }
+}
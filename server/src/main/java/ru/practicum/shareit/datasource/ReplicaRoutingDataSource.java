@@ -0,0 +1,97 @@
+package ru.practicum.shareit.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * Соединения транзакций readOnly выдаются по кругу из реплик, которые ReplicaLagMonitor считает догнавшими
+ * основную базу; остальные соединения, а также чтения пользователя сразу после его записи - из основной базы.
+ * Решение принимается при получении соединения, поэтому источник оборачивается в LazyConnectionDataSourceProxy
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder, Closeable {
+
+    static final String PRIMARY = "primary";
+
+    static final String METRIC_NAME = "shareit.datasource.connections";
+
+    private final Map<String, DataSource> replicas;
+
+    private final ReadYourWrites readYourWrites;
+
+    private final Map<String, LongAdder> connections = new ConcurrentHashMap<>();
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile List<String> availableReplicas = List.of();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    ReadYourWrites readYourWrites) {
+        this.replicas = replicas;
+        this.readYourWrites = readYourWrites;
+        connections.put(PRIMARY, new LongAdder());
+        replicas.keySet().forEach(replica -> connections.put(replica, new LongAdder()));
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    void setAvailableReplicas(List<String> availableReplicas) {
+        this.availableReplicas = List.copyOf(availableReplicas);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String target = route();
+        connections.get(target).increment();
+        return target;
+    }
+
+    String route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || readYourWrites.isPinned()) {
+            return PRIMARY;
+        }
+        List<String> available = availableReplicas;
+        if (available.isEmpty()) {
+            return PRIMARY;
+        }
+        return available.get(Math.floorMod(next.getAndIncrement(), available.size()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        connections.forEach((target, count) -> FunctionCounter.builder(METRIC_NAME, count, LongAdder::sum)
+                .description("Соединения, выданные основной базой и репликами")
+                .tag("target", target)
+                .register(registry));
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof Closeable) {
+                ((Closeable) replica).close();
+            }
+        }
+    }
+}
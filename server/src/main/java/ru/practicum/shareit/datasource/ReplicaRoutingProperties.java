@@ -0,0 +1,54 @@
+package ru.practicum.shareit.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.datasource.routing")
+public class ReplicaRoutingProperties {
+
+    private boolean enabled = false;
+
+    /*
+     * Реплики для чтения, например shareit.datasource.routing.replicas[0].url=jdbc:postgresql://replica:5432/shareit.
+     * Настройки пула берутся из spring.datasource.hikari.*
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /*
+     * Реплика с большим отставанием не получает чтения, пока не догонит основную базу
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    /*
+     * Запрос, возвращающий отставание реплики в секундах. Реплика без новых записей в WAL не отстаёт,
+     * даже если последняя применённая транзакция была давно
+     */
+    private String lagQuery = "SELECT CASE WHEN NOT pg_is_in_recovery() "
+            + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    /*
+     * Сколько после своего изменяющего запроса пользователь читает с основной базы. Должно быть не меньше max-lag
+     */
+    private Duration stickiness = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
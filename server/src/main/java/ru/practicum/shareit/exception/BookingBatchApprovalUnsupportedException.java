@@ -0,0 +1,8 @@
+package ru.practicum.shareit.exception;
+
+public class BookingBatchApprovalUnsupportedException extends RuntimeException {
+
+    public BookingBatchApprovalUnsupportedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package ru.practicum.shareit.exception;
+
+public class BookingWrongCursorException extends RuntimeException {
+
+    public BookingWrongCursorException(String message) {
+        super(message);
+    }
+}
@@ -28,6 +28,13 @@ public class ErrorHandler {
         return new Response(String.format("%s %s", LocalDateTime.now(), e.getMessage()));
     }
 
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Response handleBookingWrongCursorException(final BookingWrongCursorException e) {
+        log.info("400 {}", e.getMessage(), e);
+        return new Response(String.format("%s %s", LocalDateTime.now(), e.getMessage()));
+    }
+
     @ExceptionHandler
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Response handleBookingAlreadyVerifiedByOwnerException(final BookingAlreadyVerifiedByOwnerException e) {
@@ -35,6 +42,13 @@ public class ErrorHandler {
         return new Response(String.format("%s %s", LocalDateTime.now(), e.getMessage()));
     }
 
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Response handleBookingBatchApprovalUnsupportedException(final BookingBatchApprovalUnsupportedException e) {
+        log.info("400 {}", e.getMessage(), e);
+        return new Response(String.format("%s %s", LocalDateTime.now(), e.getMessage()));
+    }
+
     @ExceptionHandler
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Response handleNoCompletedBookingsException(final NoCompletedBookingsException e) {
@@ -91,6 +105,13 @@ public class ErrorHandler {
         return new ErrorMessage(String.format("%s", e.getMessage()));
     }
 
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+    public Response handleSqlStatementBudgetException(final SqlStatementBudgetException e) {
+        log.info("500 {}", e.getMessage(), e);
+        return new Response(String.format("%s %s", LocalDateTime.now(), e.getMessage()));
+    }
+
     @ExceptionHandler
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public Response handleThrowable(final Throwable e) {
@@ -0,0 +1,8 @@
+package ru.practicum.shareit.exception;
+
+public class SqlStatementBudgetException extends RuntimeException {
+
+    public SqlStatementBudgetException(String message) {
+        super(message);
+    }
+}
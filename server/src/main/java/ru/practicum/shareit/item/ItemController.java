@@ -31,9 +31,7 @@ public class ItemController {
     public ItemDtoOut findItemById(@RequestHeader("X-Sharer-User-Id") Long userId,
                                    @PathVariable long itemId) {
         log.info("Входящий запрос GET /items/{}. Пользователя с ID: {}", itemId, userId);
-        final ItemDtoOut itemDtoOut = itemService.getItemDtoByIdForAll(itemId, userId);
-        log.info("Исходящий ответ: {}", itemDtoOut);
-        return itemDtoOut;
+        return itemService.getItemDtoByIdForAll(itemId, userId);
     }
 
     @GetMapping
@@ -41,9 +39,7 @@ public class ItemController {
                                              @RequestParam(defaultValue = "0") int from,
                                              @RequestParam(defaultValue = "5") int size) {
         log.info("Входящий запрос GET /items?from={}&size={}. Для пользователя с ID: {}", from, size, userId);
-        final List<ItemDtoOut> allItemsWithBookingDto = itemService.getAllUserItemsDto(userId, from, size);
-        log.info("Исходящий ответ: {}", allItemsWithBookingDto);
-        return allItemsWithBookingDto;
+        return itemService.getAllUserItemsDto(userId, from, size);
     }
 
     @GetMapping("/search")
@@ -51,9 +47,7 @@ public class ItemController {
                                              @RequestParam(defaultValue = "0") int from,
                                              @RequestParam(defaultValue = "5") int size) {
         log.info("Входящий запрос POST /items/search?from={}&size={}. Параметр запроса: {}", from, size, text);
-        final List<ItemDtoOut> searchQueryResponseDto = itemService.searchItemDtoByText(text, from, size);
-        log.info("Исходящий ответ: {}", searchQueryResponseDto);
-        return searchQueryResponseDto;
+        return itemService.searchItemDtoByText(text, from, size);
     }
 
     /*
@@ -63,9 +57,7 @@ public class ItemController {
     public ItemDtoOut createItem(@RequestBody ItemDtoIn itemDtoIn,
                                  @RequestHeader("X-Sharer-User-Id") Long userId) {
         log.info("Входящий запрос POST /items. ID пользователя: {}.  ItemDto: {}", userId, itemDtoIn);
-        final ItemDtoOut responseDto = itemService.createItem(userId, itemDtoIn);
-        log.info("Исходящий ответ: {}", responseDto);
-        return responseDto;
+        return itemService.createItem(userId, itemDtoIn);
     }
 
     @PostMapping("/{itemId}/comment")
@@ -74,9 +66,7 @@ public class ItemController {
                                          @RequestHeader("X-Sharer-User-Id") Long userId) {
         log.info("Входящий запрос POST /items/{}/comment. ID пользователя: {}. " +
                 "CommentDto: {}", itemId, userId, commentRequest);
-        final CommentResponse createdCommentResponse = commentService.create(itemId, userId, commentRequest);
-        log.info("Исходящий ответ: {}", createdCommentResponse);
-        return createdCommentResponse;
+        return commentService.create(itemId, userId, commentRequest);
     }
 
 
@@ -85,9 +75,7 @@ public class ItemController {
                                  @PathVariable long itemId,
                                  @RequestBody ItemDtoIn itemDtoIn) {
         log.info("Входящий запрос PATCH /items/{}. ID пользователя: {}.  ItemDto: {}", itemId, userId, itemDtoIn);
-        final ItemDtoOut updatedItemDto = itemService.updateItem(userId, itemId, itemDtoIn);
-        log.info("Исходящий ответ: {}", updatedItemDto);
-        return updatedItemDto;
+        return itemService.updateItem(userId, itemId, itemDtoIn);
     }
 
     @DeleteMapping("/{itemId}")
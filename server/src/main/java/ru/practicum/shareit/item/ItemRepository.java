@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.item.model.Item;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,9 +15,14 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     @Query("SELECT i FROM Item i WHERE i.owner.id = ?1 ORDER BY id ASC")
     List<Item> findAllByOwnerIdOrderByIdAsc(Long owner, Pageable page);
 
-    @Query("SELECT i FROM Item i WHERE (UPPER(i.name) like %?1% " +
-            "OR UPPER(i.description) like %?1%) AND i.available = true")
+    @Query("SELECT i FROM Item i WHERE (UPPER(i.name) LIKE CONCAT('%', ?1, '%') " +
+            "OR UPPER(i.description) LIKE CONCAT('%', ?1, '%')) AND i.available = true " +
+            "ORDER BY CASE WHEN UPPER(i.name) LIKE CONCAT(?1, '%') THEN 0 " +
+            "WHEN UPPER(i.name) LIKE CONCAT('%', ?1, '%') THEN 1 ELSE 2 END, i.id")
     List<Item> findByNameContainingOrDescriptionContaining(String text, Pageable page);
 
     List<Item> findByRequestIdOrderByRequestCreatedDesc(long requestId);
+
+    @Query("SELECT i FROM Item i WHERE i.request.id IN ?1 ORDER BY i.id ASC")
+    List<Item> findByRequestIdIn(Collection<Long> requestIds);
 }
@@ -4,6 +4,7 @@ import ru.practicum.shareit.item.dto.ItemDtoIn;
 import ru.practicum.shareit.item.dto.ItemDtoOut;
 import ru.practicum.shareit.item.model.Item;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemService {
@@ -24,4 +25,6 @@ public interface ItemService {
     ItemDtoOut getItemDtoById(long itemId);
 
     Item getItemById(long itemId);
+
+    List<Item> getItemsByIds(Collection<Long> itemIds);
 }
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.item;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.comments.CommentRepository;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingResponse;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.comments.model.Comment;
 import ru.practicum.shareit.exception.ItemNotFoundException;
@@ -21,16 +23,23 @@ import ru.practicum.shareit.mapper.ItemMapper;
 import ru.practicum.shareit.request.ItemRequestService;
 import ru.practicum.shareit.user.UserService;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "shareit.service", histogram = true)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Slf4j
 public class ItemServiceImpl implements ItemService {
 
+    private static final PageRequest FIRST_BOOKING = PageRequest.of(0, 1);
+
     @Autowired
     private final UserService userService;
 
@@ -63,7 +72,7 @@ public class ItemServiceImpl implements ItemService {
         PageRequest page = PageRequest.of(from > 0 ? from / size : 0, size);
         List<Item> response = itemRepository.findAllByOwnerIdOrderByIdAsc(userId, page);
         List<ItemDtoOut> itemDtoOutList = ItemMapper.toItemDtoOutList(response);
-        itemDtoOutList.forEach(this::setBookings);
+        setBookings(itemDtoOutList);
         return itemDtoOutList;
     }
 
@@ -93,7 +102,7 @@ public class ItemServiceImpl implements ItemService {
     @Override
     public ItemDtoOut updateItem(long userId, long itemId, ItemDtoIn updateItemDtoIn) {
         Item updateItem = ItemMapper.toEntity(updateItemDtoIn);
-        userService.getUserResponseById(userId);
+        userService.checkUserExists(userId);
         Item item = checkUserItem(userId, itemId);
         if (updateItem.getName() != null) {
             item.setName(updateItem.getName());
@@ -140,13 +149,41 @@ public class ItemServiceImpl implements ItemService {
         return itemOptional.get();
     }
 
+    @Override
+    public List<Item> getItemsByIds(Collection<Long> itemIds) {
+        return itemRepository.findAllById(itemIds);
+    }
+
     private void setBookings(ItemDtoOut itemDtoOut) {
         long itemId = itemDtoOut.getId();
-        List<Booking> last = bookingRepository.findLastBookingForItem(itemId);
-        List<Booking> next = bookingRepository.findNextBookingForItem(itemId);
-        itemDtoOut.setLastBooking(BookingMapper.toBookingResponseShort(last.size() != 0 ? last.get(0) : null));
+        List<BookingResponse> last = bookingRepository.findLastBookingForItem(itemId, FIRST_BOOKING);
+        List<BookingResponse> next = bookingRepository.findNextBookingForItem(itemId, FIRST_BOOKING);
+        itemDtoOut.setLastBooking(last.size() != 0 ? last.get(0) : null);
         if (last.size() != 0) {
-            itemDtoOut.setNextBooking(BookingMapper.toBookingResponseShort(next.size() != 0 ? next.get(0) : null));
+            itemDtoOut.setNextBooking(next.size() != 0 ? next.get(0) : null);
+        }
+    }
+
+    private void setBookings(List<ItemDtoOut> itemDtoOutList) {
+        if (itemDtoOutList.isEmpty()) {
+            return;
+        }
+        List<Long> itemIds = itemDtoOutList.stream()
+                .map(ItemDtoOut::getId)
+                .collect(Collectors.toList());
+        Map<Long, Booking> last = groupByItemId(bookingRepository.findLastBookingsForItems(itemIds));
+        Map<Long, Booking> next = groupByItemId(bookingRepository.findNextBookingsForItems(itemIds));
+        for (ItemDtoOut itemDtoOut : itemDtoOutList) {
+            Booking lastBooking = last.get(itemDtoOut.getId());
+            itemDtoOut.setLastBooking(BookingMapper.toBookingResponseShort(lastBooking));
+            if (lastBooking != null) {
+                itemDtoOut.setNextBooking(BookingMapper.toBookingResponseShort(next.get(itemDtoOut.getId())));
+            }
         }
     }
+
+    private Map<Long, Booking> groupByItemId(List<Booking> bookings) {
+        return bookings.stream()
+                .collect(Collectors.toMap(b -> b.getItem().getId(), Function.identity(), (first, second) -> first));
+    }
 }
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * Единая точка логирования исходящих ответов вместо toString результата в каждом методе контроллера.
+ * В INFO пишется сводка по доле ответов shareit.logging.response.sample-rate, полное тело - только в DEBUG.
+ * Время, потраченное на логирование, записывается в таймер shareit.logging.response.
+ */
+@Slf4j
+@RestControllerAdvice(basePackages = "ru.practicum.shareit")
+@EnableConfigurationProperties(ResponseLoggingProperties.class)
+public class ResponseLoggingAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ResponseLoggingProperties properties;
+
+    private final Timer loggingTimer;
+
+    public ResponseLoggingAdvice(ResponseLoggingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.loggingTimer = meterRegistry.timer("shareit.logging.response");
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(@Nullable Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (log.isDebugEnabled()) {
+            loggingTimer.record(() -> log.debug("Исходящий ответ: {} {}: {}",
+                    request.getMethod(), request.getURI().getPath(), body));
+        } else if (log.isInfoEnabled() && isSampled()) {
+            loggingTimer.record(() -> log.info("Исходящий ответ: {} {}: {}",
+                    request.getMethod(), request.getURI().getPath(), new ResponseSummary(body)));
+        }
+        return body;
+    }
+
+    private boolean isSampled() {
+        double sampleRate = properties.getSampleRate();
+        return sampleRate >= 1 || sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
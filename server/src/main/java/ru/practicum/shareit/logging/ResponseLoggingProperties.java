@@ -0,0 +1,16 @@
+package ru.practicum.shareit.logging;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.logging.response")
+public class ResponseLoggingProperties {
+
+    /*
+     * Доля ответов, для которых пишется сводка в INFO: 0 - ни одного, 1 - каждый
+     */
+    private double sampleRate = 0.1;
+}
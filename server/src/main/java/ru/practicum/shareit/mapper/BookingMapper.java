@@ -4,6 +4,7 @@ package ru.practicum.shareit.mapper;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.booking.dto.BookingRequest;
 import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.model.ArchivedBooking;
 import ru.practicum.shareit.booking.model.Booking;
 
 import java.util.List;
@@ -22,6 +23,17 @@ public class BookingMapper {
         );
     }
 
+    public static Booking toBookingEntity(ArchivedBooking archivedBooking) {
+        return new Booking(
+                archivedBooking.getId(),
+                archivedBooking.getStart(),
+                archivedBooking.getEnd(),
+                archivedBooking.getItem(),
+                archivedBooking.getBooker(),
+                archivedBooking.getStatus()
+        );
+    }
+
     public static BookingResponse toBookingResponse(Booking booking) {
         return new BookingResponse(
                 booking.getId(),
@@ -0,0 +1,50 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/*
+ * Таймеры сервисов (@Timed на классах *ServiceImpl) и счётчик SQL-запросов на HTTP-запрос с бюджетами и поиском N+1.
+ * Вызовы репозиториев Spring Boot измеряет сам: метрика spring.data.repository.invocations
+ */
+@Configuration
+@EnableConfigurationProperties(SqlStatementProperties.class)
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    private final SqlStatementProperties sqlStatementProperties;
+
+    @Bean
+    public TimedAspect timedAspect() {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter(sqlStatementProperties, meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                sqlStatementCounter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlStatementMetricsInterceptor(meterRegistry, sqlStatementCounter()));
+    }
+}
@@ -0,0 +1,102 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import ru.practicum.shareit.exception.SqlStatementBudgetException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/*
+ * Считает SQL-запросы, подготовленные Hibernate в потоке HTTP-запроса. Вне запроса счётчика нет и ничего не считается.
+ * Запросы одной формы (без учёта пробелов и длины списков IN) группируются, чтобы находить N+1.
+ */
+@Slf4j
+public class SqlStatementCounter implements StatementInspector {
+
+    static final String VIOLATIONS_METRIC_NAME = "shareit.sql.violations";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+
+    private static final ThreadLocal<RequestStatements> STATEMENTS = new ThreadLocal<>();
+
+    private final SqlStatementProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementCounter(SqlStatementProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    void start(String method, String uri) {
+        int budget = properties.getBudgets().getOrDefault(method + " " + uri, properties.getDefaultBudget());
+        STATEMENTS.set(new RequestStatements(method, uri, budget));
+    }
+
+    int finish() {
+        RequestStatements statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements == null ? 0 : statements.total;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestStatements statements = STATEMENTS.get();
+        if (statements == null) {
+            return sql;
+        }
+        statements.total++;
+        if (properties.getMode() == SqlStatementProperties.Mode.OFF) {
+            return sql;
+        }
+        if (statements.budget > 0 && statements.total == statements.budget + 1) {
+            violation("budget", statements, String.format("%s %s выполнил больше %d SQL-запросов",
+                    statements.method, statements.uri, statements.budget));
+        }
+        String shape = shape(sql);
+        int repeats = statements.shapes.merge(shape, 1, Integer::sum);
+        if (properties.getRepeatThreshold() > 0 && repeats == properties.getRepeatThreshold()) {
+            violation("n_plus_one", statements, String.format("Возможный N+1 в %s %s: запрос повторён %d раз: %s",
+                    statements.method, statements.uri, repeats, shape));
+        }
+        return sql;
+    }
+
+    static String shape(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+    }
+
+    private void violation(String type, RequestStatements statements, String message) {
+        meterRegistry.counter(VIOLATIONS_METRIC_NAME, "type", type, "method", statements.method, "uri", statements.uri)
+                .increment();
+        if (properties.getMode() == SqlStatementProperties.Mode.FAIL) {
+            throw new SqlStatementBudgetException(message);
+        }
+        log.warn(message);
+    }
+
+    private static class RequestStatements {
+
+        private final String method;
+
+        private final String uri;
+
+        private final int budget;
+
+        private final Map<String, Integer> shapes = new HashMap<>();
+
+        private int total;
+
+        RequestStatements(String method, String uri, int budget) {
+            this.method = method;
+            this.uri = uri;
+            this.budget = budget;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.sql")
+public class SqlStatementProperties {
+
+    /*
+     * OFF - только метрика, WARN - предупреждение в лог, FAIL - исключение на первом запросе сверх бюджета
+     */
+    private Mode mode = Mode.WARN;
+
+    /*
+     * Бюджет SQL-запросов на HTTP-запрос для эндпоинтов без своего бюджета, 0 - без ограничения
+     */
+    private int defaultBudget = 0;
+
+    /*
+     * Бюджеты по методу и шаблону URI, например shareit.sql.budgets[GET\ /bookings/owner]=3
+     * (пробел в ключе файла .properties экранируется)
+     */
+    private Map<String, Integer> budgets = new HashMap<>();
+
+    /*
+     * Сколько раз запрос одной формы повторяется за HTTP-запрос, прежде чем считаться N+1, 0 - не проверять
+     */
+    private int repeatThreshold = 5;
+
+    public enum Mode {
+        OFF,
+        WARN,
+        FAIL
+    }
+}
@@ -23,9 +23,7 @@ public class ItemRequestController {
     @GetMapping
     public List<ItemRequestResponse> getAllUserItemRequest(@RequestHeader("X-Sharer-User-Id") Long userId) {
         log.info("Входящий запрос GET /requests. ID пользователя: {}.", userId);
-        final List<ItemRequestResponse> allUserItemRequest = itemRequestService.getAllUserItemRequest(userId);
-        log.info("Исходящий ответ: {}", allUserItemRequest);
-        return allUserItemRequest;
+        return itemRequestService.getAllUserItemRequest(userId);
     }
 
     @GetMapping("/all")
@@ -33,18 +31,14 @@ public class ItemRequestController {
                                                        @RequestParam(defaultValue = "0") int from,
                                                        @RequestParam(defaultValue = "5") int size) {
         log.info("Входящий запрос GET /requests/all?from={}&size={}. ID пользователя: {}.", from, size, userId);
-        List<ItemRequestResponse> allItemRequest = itemRequestService.getAllItemRequest(userId, from, size);
-        log.info("Исходящий ответ: {}", allItemRequest);
-        return allItemRequest;
+        return itemRequestService.getAllItemRequest(userId, from, size);
     }
 
     @GetMapping("/{requestId}")
     public ItemRequestResponse getItemRequest(@RequestHeader("X-Sharer-User-Id") Long userId,
                                               @PathVariable long requestId) {
         log.info("Входящий запрос GET /requests/{}. ID пользователя: {}.", requestId, userId);
-        ItemRequestResponse itemRequestResponse = itemRequestService.getItemRequestResponseById(requestId, userId);
-        log.info("Исходящий ответ: {}", itemRequestResponse);
-        return itemRequestResponse;
+        return itemRequestService.getItemRequestResponseById(requestId, userId);
     }
 
     @PostMapping
@@ -52,9 +46,7 @@ public class ItemRequestController {
                                                  @RequestHeader("X-Sharer-User-Id") Long userId) {
         log.info("Входящий запрос POST /requests. ID пользователя: {}. " +
                 "itemRequestRequest: {}", userId, itemRequestRequest);
-        final ItemRequestResponse createdItemRequestResponse = itemRequestService
+        return itemRequestService
                 .createItemRequest(userId, itemRequestRequest);
-        log.info("Исходящий ответ: {}", createdItemRequestResponse);
-        return createdItemRequestResponse;
     }
 }
@@ -2,6 +2,7 @@ package ru.practicum.shareit.request;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.request.model.ItemRequest;
 
@@ -10,7 +11,9 @@ import java.util.List;
 @Repository
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
 
+    @Query("SELECT r FROM ItemRequest r JOIN FETCH r.requester u WHERE u.id = ?1 ORDER BY r.created DESC")
     List<ItemRequest> findAllByRequesterIdOrderByCreatedDesc(long userId);
 
+    @Query("SELECT r FROM ItemRequest r JOIN FETCH r.requester u WHERE u.id <> ?1 ORDER BY r.created DESC")
     List<ItemRequest> findAllByRequesterIdNotOrderByCreatedDesc(Pageable page, long requesterId);
 }
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,10 +17,14 @@ import ru.practicum.shareit.request.dto.ItemRequestResponse;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.UserService;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "shareit.service", histogram = true)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Slf4j
@@ -36,20 +41,20 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     @Override
     public List<ItemRequestResponse> getAllUserItemRequest(Long userId) {
-        userService.getUserById(userId);
+        userService.checkUserExists(userId);
         List<ItemRequest> allUserItemRequest = itemRequestRepository.findAllByRequesterIdOrderByCreatedDesc(userId);
         List<ItemRequestResponse> allItemRequestResponses = ItemRequestMapper.toItemRequestResponseList(allUserItemRequest);
-        allItemRequestResponses.forEach(this::setResponsesList);
+        setResponsesLists(allItemRequestResponses);
         return allItemRequestResponses;
     }
 
     @Override
     public List<ItemRequestResponse> getAllItemRequest(Long userId, int from, int size) {
-        userService.getUserById(userId);
+        userService.checkUserExists(userId);
         PageRequest page = PageRequest.of(from > 0 ? from / size : 0, size);
         List<ItemRequest> itemRequestList = itemRequestRepository.findAllByRequesterIdNotOrderByCreatedDesc(page, userId);
         List<ItemRequestResponse> irdoList = ItemRequestMapper.toItemRequestResponseList(itemRequestList);
-        irdoList.forEach(this::setResponsesList);
+        setResponsesLists(irdoList);
         return irdoList;
     }
 
@@ -65,7 +70,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     @Override
     public ItemRequestResponse getItemRequestResponseById(long requestId, Long userId) {
-        userService.getUserById(userId);
+        userService.checkUserExists(userId);
         ItemRequestResponse itemRequestResponse = ItemRequestMapper.toItemRequestResponse(getItemRequestById(requestId));
         setResponsesList(itemRequestResponse);
         return itemRequestResponse;
@@ -83,4 +88,22 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         List<Item> itemsByRequestId = itemRepository.findByRequestIdOrderByRequestCreatedDesc(irdo.getId());
         irdo.setItems(ItemMapper.toItemDtoOutList(itemsByRequestId));
     }
+
+    /*
+     * Ответы на все запросы страницы одним запросом к базе вместо отдельного запроса на каждый
+     */
+    private void setResponsesLists(List<ItemRequestResponse> irdoList) {
+        if (irdoList.isEmpty()) {
+            return;
+        }
+        List<Long> requestIds = irdoList.stream()
+                .map(ItemRequestResponse::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<Item>> itemsByRequestId = itemRepository.findByRequestIdIn(requestIds).stream()
+                .collect(Collectors.groupingBy(item -> item.getRequest().getId()));
+        for (ItemRequestResponse irdo : irdoList) {
+            irdo.setItems(ItemMapper.toItemDtoOutList(
+                    itemsByRequestId.getOrDefault(irdo.getId(), Collections.emptyList())));
+        }
+    }
 }
@@ -21,33 +21,25 @@ public class UserController {
     @GetMapping
     public List<UserResponse> getAllUsers() {
         log.info("Входящий запрос GET /users.");
-        final List<UserResponse> userResponseList = userService.getAllUsers();
-        log.info("Исходящий ответ: {}", userResponseList);
-        return userResponseList;
+        return userService.getAllUsers();
     }
 
     @GetMapping("/{id}")
     public UserResponse findUserById(@PathVariable Long id) {
         log.info("Входящий запрос GET /users/{}.", id);
-        final UserResponse userResponse = userService.getUserResponseById(id);
-        log.info("Исходящий ответ: {}", userResponse);
-        return userResponse;
+        return userService.getUserResponseById(id);
     }
 
     @PostMapping
     public UserResponse create(@RequestBody UserRequest userRequest) {
         log.info("Входящий запрос POST /users: {}", userRequest);
-        final UserResponse createdUserResponse = userService.createUser(userRequest);
-        log.info("Исходящий ответ: {}", createdUserResponse);
-        return createdUserResponse;
+        return userService.createUser(userRequest);
     }
 
     @PatchMapping("/{id}")
     public UserResponse update(@RequestBody UserRequest userRequest, @PathVariable Long id) {
         log.info("Входящий запрос PUT /users: {}", userRequest);
-        final UserResponse updatedUserResponse = userService.updateUser(id, userRequest);
-        log.info("Исходящий ответ: {}", updatedUserResponse);
-        return updatedUserResponse;
+        return userService.updateUser(id, userRequest);
     }
 
     @DeleteMapping("/{userId}")
@@ -0,0 +1,163 @@
+package ru.practicum.shareit.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * id существующих пользователей в виде битовой карты. id выдаются последовательностью, поэтому карта плотная:
+ * миллион пользователей занимает 125 КБ. Проверка не обращается к базе и не выделяет память.
+ * Отсутствие id в карте не окончательно: пользователя мог создать другой экземпляр сервера, поэтому промах
+ * проверяется по базе (см. UserServiceImpl.checkUserExists). Удаления другими экземплярами видны после
+ * перечитывания карты раз в shareit.user-ids.refresh-interval
+ */
+@Component
+@Slf4j
+public class UserIdSet {
+
+    private static final long MAX_ID = ((long) Integer.MAX_VALUE << 6) - 1;
+
+    private final UserRepository userRepository;
+
+    private volatile AtomicLongArray words = new AtomicLongArray(0);
+
+    /*
+     * Число удалений из карты. Добавление по результату чтения из базы пропускается, если после чтения
+     * что-то удалялось: иначе оно вернёт в карту пользователя, удалённого между чтением и добавлением
+     */
+    private long removals;
+
+    /*
+     * Изменения карты, сделанные во время перечитывания; применяются к загруженной карте перед заменой.
+     * null, пока перечитывание не идёт
+     */
+    private Map<Long, Boolean> refreshChanges;
+
+    public UserIdSet(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public boolean contains(long userId) {
+        AtomicLongArray current = words;
+        return userId >= 0 && userId < (long) current.length() << 6
+                && (current.get((int) (userId >>> 6)) & (1L << userId)) != 0;
+    }
+
+    /*
+     * Изменения применяются после фиксации транзакции: откаченное создание не должно попасть в карту,
+     * а удалённый, но ещё видимый в базе пользователь - вернуться в неё через промах. Поэтому addAfterCommit
+     * получает removals - значение removals(), прочитанное до чтения пользователя из базы: если с тех пор
+     * кого-то удалили, id не добавляется
+     */
+    void addAfterCommit(long userId, long removals) {
+        afterCommit(() -> add(userId, removals));
+    }
+
+    void removeAfterCommit(long userId) {
+        afterCommit(() -> remove(userId));
+    }
+
+    synchronized long removals() {
+        return removals;
+    }
+
+    synchronized void add(long userId) {
+        set(userId);
+        if (refreshChanges != null) {
+            refreshChanges.put(userId, true);
+        }
+    }
+
+    synchronized void add(long userId, long removals) {
+        if (this.removals == removals) {
+            add(userId);
+        }
+    }
+
+    synchronized void remove(long userId) {
+        removals++;
+        clear(userId);
+        if (refreshChanges != null) {
+            refreshChanges.put(userId, false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.user-ids.refresh-interval:PT5M}")
+    public void refresh() {
+        synchronized (this) {
+            refreshChanges = new HashMap<>();
+        }
+        try {
+            List<Long> userIds = userRepository.findAllIds();
+            long maxId = userIds.stream().mapToLong(Long::longValue).max().orElse(0);
+            AtomicLongArray loaded = new AtomicLongArray((int) (Math.min(maxId, MAX_ID) >>> 6) + 1);
+            for (long userId : userIds) {
+                if (userId >= 0 && userId <= MAX_ID) {
+                    int index = (int) (userId >>> 6);
+                    loaded.set(index, loaded.get(index) | 1L << userId);
+                }
+            }
+            synchronized (this) {
+                words = loaded;
+                refreshChanges.forEach((userId, present) -> {
+                    if (present) {
+                        set(userId);
+                    } else {
+                        clear(userId);
+                    }
+                });
+            }
+            log.debug("Карта id пользователей перечитана: {}", userIds.size());
+        } finally {
+            synchronized (this) {
+                refreshChanges = null;
+            }
+        }
+    }
+
+    private void set(long userId) {
+        if (userId < 0 || userId > MAX_ID) {
+            return;
+        }
+        int index = (int) (userId >>> 6);
+        if (index >= words.length()) {
+            words = copyOf(words, Math.max(index + 1, words.length() * 2));
+        }
+        words.set(index, words.get(index) | 1L << userId);
+    }
+
+    private void clear(long userId) {
+        if (contains(userId)) {
+            int index = (int) (userId >>> 6);
+            words.set(index, words.get(index) & ~(1L << userId));
+        }
+    }
+
+    private static AtomicLongArray copyOf(AtomicLongArray source, int length) {
+        AtomicLongArray copy = new AtomicLongArray(length);
+        for (int i = 0; i < source.length(); i++) {
+            copy.set(i, source.get(i));
+        }
+        return copy;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,10 +1,34 @@
 package ru.practicum.shareit.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.user.model.User;
 
+import javax.persistence.QueryHint;
+import java.util.List;
+
+import static org.hibernate.annotations.QueryHints.NATIVE_SPACES;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    @Query("SELECT u.id FROM User u")
+    List<Long> findAllIds();
+
+    /*
+     * Вместе с пользователем база каскадно удаляет его вещи и запросы, а также вещи других владельцев,
+     * созданные по его запросам; подсказка сбрасывает их регионы кэша второго уровня.
+     * countQuery задан явно, как и для других изменяющих native-запросов
+     */
+    @Modifying
+    @Query(value = "DELETE FROM users WHERE id = ?1", countQuery = "SELECT COUNT(*) FROM users", nativeQuery = true)
+    @QueryHints({
+            @QueryHint(name = NATIVE_SPACES, value = "users"),
+            @QueryHint(name = NATIVE_SPACES, value = "items"),
+            @QueryHint(name = NATIVE_SPACES, value = "requests")
+    })
+    int deleteUserById(long userId);
 }
@@ -13,6 +13,11 @@ public interface UserService {
 
     User getUserById(Long userId);
 
+    /*
+     * Для проверок, которым сам пользователь не нужен: выбрасывает UserNotFoundException, не загружая User
+     */
+    void checkUserExists(long userId);
+
     UserResponse createUser(UserRequest userRequest);
 
     UserResponse updateUser(long key, UserRequest userRequest);
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.user;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +16,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(value = "shareit.service", histogram = true)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Slf4j
@@ -23,6 +25,9 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private final UserRepository userRepository;
 
+    @Autowired
+    private final UserIdSet userIdSet;
+
     @Override
     public List<UserResponse> getAllUsers() {
         return UserMapper.toUserResponseList(userRepository.findAll());
@@ -38,6 +43,19 @@ public class UserServiceImpl implements UserService {
         return userOptional.get();
     }
 
+    @Override
+    public void checkUserExists(long userId) {
+        if (userIdSet.contains(userId)) {
+            return;
+        }
+        long removals = userIdSet.removals();
+        if (!userRepository.existsById(userId)) {
+            log.error("Пользователь с ID {} не существует", userId);
+            throw new UserNotFoundException(String.format("Пользователь с ID %d не существует", userId));
+        }
+        userIdSet.addAfterCommit(userId, removals);
+    }
+
     @Override
     public UserResponse getUserResponseById(Long userId) {
         return UserMapper.toUserResponse(getUserById(userId));
@@ -46,8 +64,10 @@ public class UserServiceImpl implements UserService {
     @Transactional
     @Override
     public UserResponse createUser(UserRequest userRequest) {
-        User user = UserMapper.toUserEntity(userRequest);
-        return UserMapper.toUserResponse(userRepository.save(user));
+        long removals = userIdSet.removals();
+        User user = userRepository.save(UserMapper.toUserEntity(userRequest));
+        userIdSet.addAfterCommit(user.getId(), removals);
+        return UserMapper.toUserResponse(user);
     }
 
     @Transactional
@@ -66,6 +86,7 @@ public class UserServiceImpl implements UserService {
     @Transactional
     @Override
     public void deleteUser(long userId) {
-        userRepository.deleteById(userId);
+        userRepository.deleteUserById(userId);
+        userIdSet.removeAfterCommit(userId);
     }
 }
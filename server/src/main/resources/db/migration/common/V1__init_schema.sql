@@ -1,10 +1,3 @@
-DROP TABLE IF EXISTS users CASCADE;
-DROP TABLE IF EXISTS requests CASCADE;
-DROP TABLE IF EXISTS items CASCADE;
-DROP TABLE IF EXISTS bookings CASCADE;
-DROP TABLE IF EXISTS comments CASCADE;
-
-
 CREATE TABLE IF NOT EXISTS users (
   id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
   name VARCHAR(50) NOT NULL,
@@ -37,6 +30,8 @@ CREATE TABLE IF NOT EXISTS bookings (
   status VARCHAR (15) NOT NULL
 );
 
+CREATE INDEX IF NOT EXISTS IDX_BOOKINGS_AVAILABILITY ON bookings (item_id, status, end_date, start_date);
+
 CREATE TABLE IF NOT EXISTS comments (
   id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
   text VARCHAR (500) NOT NULL,
@@ -44,4 +39,3 @@ CREATE TABLE IF NOT EXISTS comments (
   author_id BIGINT REFERENCES users (id) ON DELETE CASCADE ON UPDATE CASCADE,
   created TIMESTAMP WITHOUT TIME ZONE NOT NULL
 );
-
@@ -0,0 +1,8 @@
+CREATE INDEX IF NOT EXISTS IDX_REQUESTS_REQUESTER_CREATED ON requests (requester_id, created DESC);
+CREATE INDEX IF NOT EXISTS IDX_REQUESTS_CREATED ON requests (created DESC);
+CREATE INDEX IF NOT EXISTS IDX_ITEMS_OWNER ON items (owner_id, id);
+CREATE INDEX IF NOT EXISTS IDX_ITEMS_REQUEST ON items (request_id);
+CREATE INDEX IF NOT EXISTS IDX_BOOKINGS_ITEM_START ON bookings (item_id, start_date DESC, end_date);
+CREATE INDEX IF NOT EXISTS IDX_BOOKINGS_BOOKER_START ON bookings (booker_id, start_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS IDX_BOOKINGS_BOOKER_STATUS_START ON bookings (booker_id, status, start_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS IDX_COMMENTS_ITEM ON comments (item_id);
@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS bookings_archive (
+  id BIGINT PRIMARY KEY,
+  start_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+  end_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+  item_id BIGINT REFERENCES items (id) ON DELETE CASCADE ON UPDATE CASCADE,
+  booker_id BIGINT REFERENCES users (id) ON DELETE CASCADE ON UPDATE CASCADE,
+  status VARCHAR (15) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS IDX_BOOKINGS_ARCHIVE_BOOKER_START ON bookings_archive (booker_id, start_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS IDX_BOOKINGS_ARCHIVE_ITEM_START ON bookings_archive (item_id, start_date DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS IDX_BOOKINGS_STATUS_END ON bookings (status, end_date);
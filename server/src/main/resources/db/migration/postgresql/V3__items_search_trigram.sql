@@ -0,0 +1,4 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS IDX_ITEMS_NAME_TRGM ON items USING GIN (UPPER(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS IDX_ITEMS_DESCRIPTION_TRGM ON items USING GIN (UPPER(description) gin_trgm_ops);
@@ -0,0 +1,30 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Пересечения, одобренные до появления ограничения: из пересекающихся одобренных бронирований вещи остаётся
+-- созданное раньше, остальные отклоняются и перечисляются в журнале миграции
+DO $$
+DECLARE
+  booking RECORD;
+BEGIN
+  FOR booking IN
+    SELECT b.id, b.item_id, b.start_date, b.end_date FROM bookings b
+    WHERE b.status = 'APPROVED' AND EXISTS (
+      SELECT 1 FROM bookings o
+      WHERE o.item_id = b.item_id AND o.status = 'APPROVED' AND o.id < b.id
+        AND o.start_date <= b.end_date AND o.end_date >= b.start_date)
+    ORDER BY b.id
+  LOOP
+    IF EXISTS (
+      SELECT 1 FROM bookings o
+      WHERE o.item_id = booking.item_id AND o.status = 'APPROVED' AND o.id < booking.id
+        AND o.start_date <= booking.end_date AND o.end_date >= booking.start_date) THEN
+      UPDATE bookings SET status = 'REJECTED' WHERE id = booking.id;
+      RAISE WARNING 'Бронирование % вещи % (% - %) пересекается с одобренным ранее и отклонено',
+        booking.id, booking.item_id, booking.start_date, booking.end_date;
+    END IF;
+  END LOOP;
+END $$;
+
+ALTER TABLE bookings ADD CONSTRAINT EXCL_BOOKINGS_APPROVED_OVERLAP
+    EXCLUDE USING GIST (item_id WITH =, tsrange(start_date, end_date, '[]') WITH &&)
+    WHERE (status = 'APPROVED');
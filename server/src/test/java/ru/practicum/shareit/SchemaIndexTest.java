@@ -0,0 +1,41 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+
+/*
+ * Составные индексы из миграции V2 создаются вместе со схемой; их использование в планах PostgreSQL
+ * проверяет отчёт модуля benchmarks/server (профиль index-report)
+ */
+@DataJpaTest
+class SchemaIndexTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void schema_whenCreated_thenCompositeIndexesExist() {
+        List<String> indexNames = entityManager.getEntityManager()
+                .createNativeQuery("SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES")
+                .getResultList();
+
+        assertThat(indexNames, hasItems(
+                "IDX_BOOKINGS_AVAILABILITY",
+                "IDX_BOOKINGS_ITEM_START",
+                "IDX_BOOKINGS_BOOKER_START",
+                "IDX_BOOKINGS_BOOKER_STATUS_START",
+                "IDX_ITEMS_OWNER",
+                "IDX_ITEMS_REQUEST",
+                "IDX_REQUESTS_REQUESTER_CREATED",
+                "IDX_REQUESTS_CREATED",
+                "IDX_COMMENTS_ITEM"));
+    }
+}
@@ -0,0 +1,38 @@
+package ru.practicum.shareit;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    void migrate_whenContextStarted_thenCommonMigrationsApplied() {
+        List<String> applied = Arrays.stream(flyway.info().applied())
+                .map(MigrationInfo::getVersion)
+                .map(String::valueOf)
+                .collect(Collectors.toList());
+
+        assertEquals(List.of("1", "2", "4"), applied);
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    @Test
+    void migrate_whenRepeated_thenNothingExecutedAndChecksumsValid() {
+        assertEquals(0, flyway.migrate().migrationsExecuted);
+        assertDoesNotThrow(() -> flyway.validate());
+    }
+}
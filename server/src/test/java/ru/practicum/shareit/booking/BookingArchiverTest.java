@@ -0,0 +1,154 @@
+package ru.practicum.shareit.booking;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.practicum.shareit.booking.model.ArchivedBooking;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingCursor;
+import ru.practicum.shareit.enums.BookingStatus;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class BookingArchiverTest {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingArchiveRepository bookingArchiveRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final BookingArchiveProperties properties = new BookingArchiveProperties();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private User owner;
+
+    private User booker;
+
+    private Item drill;
+
+    private Booking oldest;
+
+    private Booking older;
+
+    @BeforeEach
+    public void init() {
+        LocalDateTime ldt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        owner = userRepository.save(new User("owner", "owner@yandex.ru"));
+        booker = userRepository.save(new User("booker", "booker@yandex.ru"));
+        drill = itemRepository.save(Item.builder()
+                .name("Дрель")
+                .description("Чтобы сверлить")
+                .available(true)
+                .owner(owner)
+                .build());
+        Item binoculars = itemRepository.save(Item.builder()
+                .name("Бинокль")
+                .description("Чтобы смотреть")
+                .available(true)
+                .owner(owner)
+                .build());
+
+        oldest = save(drill, ldt.minusDays(201), ldt.minusDays(200), BookingStatus.APPROVED);
+        older = save(drill, ldt.minusDays(101), ldt.minusDays(100), BookingStatus.APPROVED);
+        save(drill, ldt.minusDays(151), ldt.minusDays(150), BookingStatus.REJECTED);
+        save(drill, ldt.minusDays(2), ldt.minusDays(1), BookingStatus.APPROVED);
+        save(binoculars, ldt.minusDays(121), ldt.minusDays(120), BookingStatus.APPROVED);
+        entityManager.flush();
+    }
+
+    @Test
+    void archive_whenApprovedBookingsOlderThanRetention_thenMovedExceptLastBookingOfItem() {
+        archiver().archive();
+        entityManager.clear();
+
+        List<Long> archivedIds = bookingArchiveRepository.findAll().stream()
+                .map(ArchivedBooking::getId)
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(List.of(oldest.getId(), older.getId()), archivedIds);
+        assertEquals(3, bookingRepository.count());
+        assertEquals(2.0, meterRegistry.counter("shareit.bookings.archived").count());
+    }
+
+    @Test
+    void archiveBatch_whenBatchSizeSmaller_thenEachBatchMovesOldestFirst() {
+        properties.setBatchSize(1);
+        BookingArchiver archiver = archiver();
+        LocalDateTime endBefore = LocalDateTime.now().minus(properties.getRetention());
+
+        assertEquals(1, archiver.archiveBatch(endBefore));
+        entityManager.clear();
+        assertTrue(bookingArchiveRepository.existsById(oldest.getId()));
+        assertFalse(bookingArchiveRepository.existsById(older.getId()));
+
+        archiver.archive();
+
+        assertEquals(0, archiver.archiveBatch(endBefore));
+        assertEquals(2, bookingArchiveRepository.count());
+    }
+
+    @Test
+    void archivedBookings_whenQueried_thenFoundByBookerOwnerAndItem() {
+        archiver().archive();
+        entityManager.clear();
+        BookingCursor cursor = BookingCursor.first();
+
+        List<ArchivedBooking> byBooker = bookingArchiveRepository.findByBookerId(booker.getId(), PageRequest.of(0, 5));
+        List<ArchivedBooking> byOwner = bookingArchiveRepository
+                .findByOwnerIdKeyset(owner.getId(), older.getStart(), older.getId(), PageRequest.of(0, 5));
+
+        assertEquals(List.of(older.getId(), oldest.getId()),
+                byBooker.stream().map(ArchivedBooking::getId).collect(Collectors.toList()));
+        assertEquals(List.of(oldest.getId()),
+                byOwner.stream().map(ArchivedBooking::getId).collect(Collectors.toList()));
+        assertEquals(2, bookingArchiveRepository
+                .findByBookerIdKeyset(booker.getId(), cursor.getStart(), cursor.getId(), PageRequest.of(0, 5)).size());
+        assertEquals(2, bookingArchiveRepository.findByOwnerId(owner.getId(), PageRequest.of(0, 5)).size());
+        assertTrue(bookingArchiveRepository.existsByBookerIdAndItemId(booker.getId(), drill.getId()));
+        assertFalse(bookingArchiveRepository.existsByBookerIdAndItemId(owner.getId(), drill.getId()));
+    }
+
+    private BookingArchiver archiver() {
+        return new BookingArchiver(bookingRepository, bookingArchiveRepository, properties, transactionManager,
+                meterRegistry);
+    }
+
+    private Booking save(Item item, LocalDateTime start, LocalDateTime end, BookingStatus status) {
+        return bookingRepository.save(Booking.builder()
+                .start(start)
+                .end(end)
+                .item(item)
+                .booker(booker)
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,94 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.enums.BookingStatus;
+import ru.practicum.shareit.exception.ItemIsUnavailableException;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+@SpringBootTest
+class BookingConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void updateBookingStatus_whenOverlappingBookingsApprovedConcurrently_thenOnlyOneApproved() throws Exception {
+        long unique = System.nanoTime();
+        User owner = userRepository.save(new User("owner", "owner" + unique + "@yandex.ru"));
+        User booker = userRepository.save(new User("booker", "booker" + unique + "@yandex.ru"));
+        Item item = itemRepository.save(Item.builder()
+                .name("Дрель")
+                .description("Чтобы сверлить")
+                .available(true)
+                .owner(owner)
+                .build());
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<Long> bookingIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            bookingIds.add(bookingRepository.save(Booking.builder()
+                    .start(start.plusHours(i))
+                    .end(start.plusHours(i).plusDays(1))
+                    .item(item)
+                    .booker(booker)
+                    .status(BookingStatus.WAITING)
+                    .build()).getId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        AtomicInteger approved = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (long bookingId : bookingIds) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    bookingService.updateBookingStatus(bookingId, true, owner.getId());
+                    return approved.incrementAndGet();
+                }));
+            }
+            int rejected = 0;
+            for (Future<?> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    assertInstanceOf(ItemIsUnavailableException.class, e.getCause());
+                    rejected++;
+                }
+            }
+            assertEquals(1, approved.get());
+            assertEquals(THREADS - 1, rejected);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, bookingIds.stream()
+                .map(bookingId -> bookingRepository.findById(bookingId).orElseThrow().getStatus())
+                .filter(BookingStatus.APPROVED::equals)
+                .count());
+    }
+}
@@ -8,9 +8,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingRequest;
 import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.dto.BookingStatusRequest;
+import ru.practicum.shareit.enums.BookingStatus;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.dto.ItemDtoIn;
 import ru.practicum.shareit.item.dto.ItemDtoOut;
@@ -19,8 +23,13 @@ import ru.practicum.shareit.user.dto.UserRequest;
 import ru.practicum.shareit.user.dto.UserResponse;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -181,6 +190,49 @@ class BookingControllerIT {
                 .andExpect(jsonPath("$[0].status").value("WAITING"));
     }
 
+    @Test
+    @SneakyThrows
+    void getOwnerBookingsPage_whenFollowingCursor_thenAllBookingsReturnedOnce() {
+        for (int i = 1; i <= 3; i++) {
+            BookingRequest brDto = new BookingRequest(itemId,
+                    LocalDateTime.now().plusMinutes(i * 10),
+                    LocalDateTime.now().plusMinutes(i * 10 + 5));
+            mockMvc.perform(post("/bookings")
+                            .header("X-Sharer-User-Id", bookerId)
+                            .content(objectMapper.writeValueAsString(brDto))
+                            .contentType("application/json"))
+                    .andExpect(status().isOk());
+        }
+
+        String cursor = mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", ownerId)
+                        .param("cursor", "")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().exists(BookingController.NEXT_CURSOR_HEADER))
+                .andReturn()
+                .getResponse()
+                .getHeader(BookingController.NEXT_CURSOR_HEADER);
+
+        mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", ownerId)
+                        .param("cursor", cursor)
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().doesNotExist(BookingController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @SneakyThrows
+    void getUserBookingsPage_whenCursorIsMalformed_thenBadRequest() {
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", bookerId)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @SneakyThrows
     void getBookingById_whenUserIdFound_thenResponseContainsBooking() {
@@ -206,4 +258,96 @@ class BookingControllerIT {
                 .andExpect(jsonPath("$.id").value("" + bookingId))
                 .andExpect(jsonPath("$.status").value("WAITING"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @SneakyThrows
+    void createBookings_whenBatchHasInvalidElements_thenValidCreatedAndOthersReported() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<BookingRequest> bookingRequests = List.of(
+                new BookingRequest(itemId, start, start.plusHours(1)),
+                new BookingRequest(itemId + 1000, start, start.plusHours(1)),
+                new BookingRequest(itemId, start.minusDays(2), start.minusDays(2).plusHours(1)),
+                new BookingRequest(itemId, start, start.plusHours(1)));
+
+        mockMvc.perform(post("/bookings/batch")
+                        .header("X-Sharer-User-Id", bookerId)
+                        .content(objectMapper.writeValueAsString(bookingRequests))
+                        .contentType("application/json"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].status").value(201))
+                .andExpect(jsonPath("$[0].booking.status").value("WAITING"))
+                .andExpect(jsonPath("$[1].status").value(404))
+                .andExpect(jsonPath("$[1].booking").isEmpty())
+                .andExpect(jsonPath("$[2].index").value(2))
+                .andExpect(jsonPath("$[2].status").value(400))
+                .andExpect(jsonPath("$[3].status").value(201));
+
+        assertEquals(2, bookingRepository.findByBookerIdOrderByStartDesc(bookerId, PageRequest.of(0, 5)).size());
+    }
+
+    @Test
+    @SneakyThrows
+    void updateBookingStatuses_whenBatchApprovesOverlappingBookings_thenOnlyFirstApproved() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<BookingRequest> bookingRequests = List.of(
+                new BookingRequest(itemId, start, start.plusHours(2)),
+                new BookingRequest(itemId, start.plusHours(1), start.plusHours(3)),
+                new BookingRequest(itemId, start.plusHours(4), start.plusHours(5)));
+        String responseBookings = mockMvc.perform(post("/bookings/batch")
+                        .header("X-Sharer-User-Id", bookerId)
+                        .content(objectMapper.writeValueAsString(bookingRequests))
+                        .contentType("application/json"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        List<Long> bookingIds = Arrays.stream(objectMapper.readValue(responseBookings, BookingBatchResult[].class))
+                .map(result -> result.getBooking().getId())
+                .collect(Collectors.toList());
+        List<BookingStatusRequest> statusRequests = List.of(
+                new BookingStatusRequest(bookingIds.get(0), true),
+                new BookingStatusRequest(bookingIds.get(1), true),
+                new BookingStatusRequest(bookingIds.get(2), false),
+                new BookingStatusRequest(bookingIds.get(2), true),
+                new BookingStatusRequest(bookingIds.get(2) + 1000, true));
+
+        mockMvc.perform(patch("/bookings/batch")
+                        .header("X-Sharer-User-Id", ownerId)
+                        .content(objectMapper.writeValueAsString(statusRequests))
+                        .contentType("application/json"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(200))
+                .andExpect(jsonPath("$[0].booking.status").value("APPROVED"))
+                .andExpect(jsonPath("$[1].status").value(400))
+                .andExpect(jsonPath("$[2].booking.status").value("REJECTED"))
+                .andExpect(jsonPath("$[3].status").value(400))
+                .andExpect(jsonPath("$[3].error").value("Бронирование уже проверено владельцем"))
+                .andExpect(jsonPath("$[4].status").value(404));
+
+        assertEquals(BookingStatus.APPROVED, bookingRepository.findById(bookingIds.get(0)).orElseThrow().getStatus());
+        assertEquals(BookingStatus.WAITING, bookingRepository.findById(bookingIds.get(1)).orElseThrow().getStatus());
+        assertEquals(BookingStatus.REJECTED, bookingRepository.findById(bookingIds.get(2)).orElseThrow().getStatus());
+    }
+
+    @Test
+    @SneakyThrows
+    void updateBookingStatuses_whenUserIsNotOwner_thenEveryElementNotFound() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        String responseBooking = mockMvc.perform(post("/bookings")
+                        .header("X-Sharer-User-Id", bookerId)
+                        .content(objectMapper.writeValueAsString(new BookingRequest(itemId, start, start.plusHours(1))))
+                        .contentType("application/json"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        long bookingId = objectMapper.readValue(responseBooking, BookingResponse.class).getId();
+
+        mockMvc.perform(patch("/bookings/batch")
+                        .header("X-Sharer-User-Id", bookerId)
+                        .content(objectMapper.writeValueAsString(List.of(new BookingStatusRequest(bookingId, true))))
+                        .contentType("application/json"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(404));
+    }
+}
@@ -5,8 +5,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingRequest;
 import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.dto.BookingStatusRequest;
+import ru.practicum.shareit.booking.model.BookingCursor;
 import ru.practicum.shareit.booking.model.BookingRequestParams;
 import ru.practicum.shareit.enums.BookingStatus;
 import ru.practicum.shareit.enums.States;
@@ -17,6 +21,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -60,6 +65,41 @@ class BookingControllerTest {
         verify(bookingService).getAllUserBookings(bookingRequestParams);
     }
 
+    @Test
+    void getUserBookingsPage_whenPageIsFull_thenResponseContainsNextCursor() {
+        States state = States.ALL;
+        long userId = 1L;
+        int size = 2;
+        LocalDateTime start = LocalDateTime.now();
+        BookingResponse last = new BookingResponse(2L, start, start.plusHours(1), null, null, BookingStatus.WAITING);
+        List<BookingResponse> bookingResponseList = List.of(new BookingResponse(), last);
+        BookingRequestParams bookingRequestParams =
+                new BookingRequestParams(state, userId, 0, size, BookingCursor.first());
+        when(bookingService.getAllUserBookings(bookingRequestParams)).thenReturn(bookingResponseList);
+
+        ResponseEntity<List<BookingResponse>> response = bookingController.getUserBookingsPage(state, userId, "", size);
+
+        assertEquals(bookingResponseList, response.getBody());
+        assertEquals(new BookingCursor(start, 2L),
+                BookingCursor.decode(response.getHeaders().getFirst(BookingController.NEXT_CURSOR_HEADER)));
+    }
+
+    @Test
+    void getOwnerBookingsPage_whenPageIsNotFull_thenResponseWithoutNextCursor() {
+        States state = States.ALL;
+        long userId = 1L;
+        BookingCursor cursor = new BookingCursor(LocalDateTime.now(), 3L);
+        BookingRequestParams bookingRequestParams = new BookingRequestParams(state, userId, 0, 5, cursor);
+        List<BookingResponse> bookingResponseList = List.of(new BookingResponse());
+        when(bookingService.getAllOwnerBookings(bookingRequestParams)).thenReturn(bookingResponseList);
+
+        ResponseEntity<List<BookingResponse>> response =
+                bookingController.getOwnerBookingsPage(state, userId, cursor.encode(), 5);
+
+        assertEquals(bookingResponseList, response.getBody());
+        assertFalse(response.getHeaders().containsKey(BookingController.NEXT_CURSOR_HEADER));
+    }
+
     @Test
     void getAllOwnerBookings_whenParamIsCorrect_thenResponseContainsListOfBookings() {
         States state = States.ALL;
@@ -111,4 +151,27 @@ class BookingControllerTest {
         assertEquals(bookingResponse, responseDto);
         verify(bookingService).create(bookingRequest, bookerId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void createBookings_whenInvoked_thenResultsOfServiceReturned() {
+        long bookerId = 1L;
+        List<BookingRequest> bookingRequests = List.of(new BookingRequest(), new BookingRequest());
+        List<BookingBatchResult> results = List.of(new BookingBatchResult(0, 201, new BookingResponse(), null),
+                new BookingBatchResult(1, 404, null, "Вещь с ID 2 не существует"));
+        when(bookingService.createAll(bookingRequests, bookerId)).thenReturn(results);
+
+        assertEquals(results, bookingController.createBookings(bookerId, bookingRequests));
+        verify(bookingService).createAll(bookingRequests, bookerId);
+    }
+
+    @Test
+    void updateBookingStatuses_whenInvoked_thenResultsOfServiceReturned() {
+        long ownerId = 1L;
+        List<BookingStatusRequest> statusRequests = List.of(new BookingStatusRequest(1L, true));
+        List<BookingBatchResult> results = List.of(new BookingBatchResult(0, 200, new BookingResponse(), null));
+        when(bookingService.updateBookingStatuses(statusRequests, ownerId)).thenReturn(results);
+
+        assertEquals(results, bookingController.updateBookingStatuses(ownerId, statusRequests));
+        verify(bookingService).updateBookingStatuses(statusRequests, ownerId);
+    }
+}
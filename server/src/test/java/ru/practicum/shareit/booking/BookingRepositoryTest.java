@@ -1,12 +1,16 @@
 package ru.practicum.shareit.booking;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.booking.dto.BookingResponse;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingCursor;
 import ru.practicum.shareit.enums.BookingStatus;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
@@ -14,7 +18,12 @@ import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -31,6 +40,9 @@ class BookingRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Item item1;
     private Item item2;
     User user1;
@@ -42,7 +54,7 @@ class BookingRepositoryTest {
 
     @BeforeEach
     public void init() {
-        ldt = LocalDateTime.now();
+        ldt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         user1 = userRepository.save(new User("user1", "user1@yandex.ru"));
         user2 = userRepository.save(new User("user2", "user2@yandex.ru"));
 
@@ -131,6 +143,87 @@ class BookingRepositoryTest {
         itemRepository.deleteAll();
     }
 
+    @Test
+    void findByOwnerIdAll_whenLoaded_thenItemAndBookerFetchedWithBookings() {
+        entityManager.clear();
+
+        List<Booking> responseList = bookingRepository.findByOwnerIdAll(user2.getId(), page);
+
+        assertEquals(5, responseList.size());
+        assertTrue(responseList.stream().allMatch(booking -> Hibernate.isInitialized(booking.getItem())
+                && Hibernate.isInitialized(booking.getBooker())));
+    }
+
+    @Test
+    void findByBookerIdAllKeyset_whenLoaded_thenItemAndBookerFetchedWithBookings() {
+        entityManager.clear();
+        BookingCursor cursor = BookingCursor.first();
+
+        List<Booking> responseList = bookingRepository
+                .findByBookerIdAllKeyset(user1.getId(), cursor.getStart(), cursor.getId(), page);
+
+        assertEquals(4, responseList.size());
+        assertTrue(responseList.stream().allMatch(booking -> Hibernate.isInitialized(booking.getItem())
+                && Hibernate.isInitialized(booking.getBooker())));
+    }
+
+    @Test
+    void updateWaitingStatus_whenOwnerDecides_thenOnlyFirstDecisionApplied() {
+        Booking waiting = bookingRepository.findByBookerIdWaiting(user1.getId(), page).get(0);
+        entityManager.clear();
+
+        assertEquals(0, bookingRepository.updateWaitingStatus(waiting.getId(), BookingStatus.APPROVED, user1.getId()));
+        assertEquals(1, bookingRepository.updateWaitingStatus(waiting.getId(), BookingStatus.APPROVED, user2.getId()));
+        assertEquals(0, bookingRepository.updateWaitingStatus(waiting.getId(), BookingStatus.REJECTED, user2.getId()));
+
+        Booking updated = bookingRepository.findWithItemAndBookerById(waiting.getId()).orElseThrow();
+        assertEquals(BookingStatus.APPROVED, updated.getStatus());
+        assertTrue(Hibernate.isInitialized(updated.getItem()));
+        assertTrue(Hibernate.isInitialized(updated.getBooker()));
+    }
+
+    @Test
+    void hasApprovedOverlap_whenOtherApprovedBookingOfItemOverlaps_thenTrue() {
+        Booking waiting = bookingRepository.findByBookerIdWaiting(user1.getId(), page).get(0);
+        Booking overlapping = bookingRepository.save(Booking.builder()
+                .start(ldt.plusSeconds(2))
+                .end(ldt.plusSeconds(3))
+                .item(item2)
+                .booker(user1)
+                .status(BookingStatus.WAITING)
+                .build());
+        bookingRepository.updateWaitingStatus(waiting.getId(), BookingStatus.APPROVED, user2.getId());
+        entityManager.clear();
+
+        assertEquals(item2.getId(), bookingRepository.findItemIdById(overlapping.getId()).orElseThrow());
+        assertTrue(bookingRepository.hasApprovedOverlap(overlapping.getId()));
+        assertFalse(bookingRepository.hasApprovedOverlap(waiting.getId()));
+    }
+
+    @Test
+    void insertAll_whenBookingsInserted_thenIdsAssignedAndRowsFoundByBatchQueries() {
+        List<Booking> bookings = List.of(
+                Booking.builder().start(ldt.plusDays(1)).end(ldt.plusDays(2)).item(item1).booker(user1)
+                        .status(BookingStatus.WAITING).build(),
+                Booking.builder().start(ldt.plusDays(3)).end(ldt.plusDays(4)).item(item2).booker(user1)
+                        .status(BookingStatus.APPROVED).build());
+
+        bookingRepository.insertAll(bookings);
+        bookingRepository.insertAll(List.of());
+        List<Long> bookingIds = List.of(bookings.get(0).getId(), bookings.get(1).getId());
+
+        assertTrue(bookingIds.get(0) < bookingIds.get(1));
+        assertEquals(Set.of(item1.getId(), item2.getId()), Set.copyOf(bookingRepository.findItemIdsByIdIn(bookingIds)));
+        List<Booking> loaded = bookingRepository.findWithItemAndBookerByIdIn(bookingIds);
+        assertEquals(2, loaded.size());
+        assertTrue(loaded.stream().allMatch(booking -> Hibernate.isInitialized(booking.getItem())
+                && Hibernate.isInitialized(booking.getBooker())));
+        assertEquals(List.of(bookingIds.get(1)), bookingRepository
+                .findApprovedByItemIdInAndEndFrom(List.of(item1.getId(), item2.getId()), ldt.plusDays(2)).stream()
+                .map(Booking::getId)
+                .collect(Collectors.toList()));
+    }
+
     @Test
     void findByBookerIdOrderByStartDesc() {
         List<Booking> responseList = bookingRepository.findByBookerIdOrderByStartDesc(user1.getId(), page);
@@ -215,18 +308,71 @@ class BookingRepositoryTest {
         assertEquals(5, responseList.size());
     }
 
+    @Test
+    void findByOwnerIdAllKeyset_whenPagedByCursor_thenPagesDoNotOverlap() {
+        BookingCursor cursor = BookingCursor.first();
+        PageRequest firstRow = PageRequest.of(0, 1);
+
+        List<Booking> firstPage = bookingRepository
+                .findByOwnerIdAllKeyset(user2.getId(), cursor.getStart(), cursor.getId(), PageRequest.of(0, 3));
+        Booking last = firstPage.get(firstPage.size() - 1);
+        List<Booking> secondPage = bookingRepository
+                .findByOwnerIdAllKeyset(user2.getId(), last.getStart(), last.getId(), PageRequest.of(0, 5));
+
+        assertEquals(3, firstPage.size());
+        assertEquals(5, secondPage.size());
+        assertEquals(ldt.plusSeconds(4), firstPage.get(0).getStart());
+        assertTrue(secondPage.stream().noneMatch(firstPage::contains));
+        assertTrue(secondPage.get(0).getStart().isBefore(last.getStart()));
+        assertEquals(1, bookingRepository
+                .findByBookerIdWaitingKeyset(user1.getId(), cursor.getStart(), cursor.getId(), firstRow).size());
+    }
+
     @Test
     void findLastBookingForItem() {
-        List<Booking> responseList = bookingRepository.findLastBookingForItem(item2.getId());
+        List<BookingResponse> responseList = bookingRepository.findLastBookingForItem(item2.getId(), page);
 
         assertEquals(2, responseList.size());
+        assertEquals(user1.getId(), responseList.get(0).getBookerId());
+    }
+
+    @Test
+    void findLastBookingForItem_whenLimitedToFirst_thenOnlyLatestBookingReturned() {
+        List<BookingResponse> responseList = bookingRepository
+                .findLastBookingForItem(item2.getId(), PageRequest.of(0, 1));
+
+        assertEquals(1, responseList.size());
+        assertEquals(user1.getId(), responseList.get(0).getBookerId());
     }
 
     @Test
     void findNextBookingForItem() {
-        List<Booking> responseList = bookingRepository.findNextBookingForItem(item1.getId());
+        List<BookingResponse> responseList = bookingRepository.findNextBookingForItem(item1.getId(), page);
 
         assertEquals(1, responseList.size());
+        assertEquals(user1.getId(), responseList.get(0).getBookerId());
+    }
+
+    @Test
+    void findLastBookingsForItems() {
+        Map<Long, Booking> responseMap = bookingRepository
+                .findLastBookingsForItems(List.of(item1.getId(), item2.getId())).stream()
+                .collect(Collectors.toMap(b -> b.getItem().getId(), Function.identity()));
+
+        assertEquals(2, responseMap.size());
+        assertEquals(user2.getId(), responseMap.get(item1.getId()).getBooker().getId());
+        assertEquals(user1.getId(), responseMap.get(item2.getId()).getBooker().getId());
+    }
+
+    @Test
+    void findNextBookingsForItems() {
+        Map<Long, Booking> responseMap = bookingRepository
+                .findNextBookingsForItems(List.of(item1.getId(), item2.getId())).stream()
+                .collect(Collectors.toMap(b -> b.getItem().getId(), Function.identity()));
+
+        assertEquals(2, responseMap.size());
+        assertEquals(user1.getId(), responseMap.get(item1.getId()).getBooker().getId());
+        assertEquals(user1.getId(), responseMap.get(item2.getId()).getBooker().getId());
     }
 
     @Test
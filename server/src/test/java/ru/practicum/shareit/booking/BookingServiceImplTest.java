@@ -4,11 +4,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingRequest;
 import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.dto.BookingStatusRequest;
+import ru.practicum.shareit.booking.model.ArchivedBooking;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingCursor;
 import ru.practicum.shareit.booking.model.BookingRequestParams;
 import ru.practicum.shareit.enums.BookingStatus;
 import ru.practicum.shareit.enums.States;
@@ -22,13 +28,20 @@ import ru.practicum.shareit.user.model.User;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static java.util.stream.Collectors.toList;
 import static org.mockito.Mockito.*;
 import static ru.practicum.shareit.enums.BookingStatus.APPROVED;
+import static ru.practicum.shareit.enums.BookingStatus.REJECTED;
+import static ru.practicum.shareit.enums.BookingStatus.WAITING;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -37,12 +50,21 @@ class BookingServiceImplTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private BookingArchiveRepository bookingArchiveRepository;
+
+    @Spy
+    private BookingArchiveProperties bookingArchiveProperties = new BookingArchiveProperties();
+
     @Mock
     private ItemService itemService;
 
     @Mock
     private UserService userService;
 
+    @Mock
+    private ItemBookingLock itemBookingLock;
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -73,6 +95,7 @@ class BookingServiceImplTest {
         BookingResponse response = bookingService.create(bookingRequest, bookerId);
 
         assertEquals(BookingMapper.toBookingResponse(booking), response);
+        verifyNoInteractions(itemBookingLock);
         verify(userService).getUserById(bookerId);
         verify(itemService).getItemById(bookingRequest.getItemId());
         verify(bookingRepository).save(any(Booking.class));
@@ -284,16 +307,50 @@ class BookingServiceImplTest {
                 new User(1L, "booker", "booker@yandex.ru"),
                 APPROVED
         );
-        when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
-        when(itemService.checkUserItem(ownerId, booking.getItem().getId())).thenReturn(null);
-        when(bookingRepository.save(any(Booking.class))).thenReturn(bookingOut);
+        when(bookingRepository.findItemIdById(bookingId)).thenReturn(Optional.of(1L));
+        when(bookingRepository.updateWaitingStatus(bookingId, APPROVED, ownerId)).thenReturn(1);
+        when(bookingRepository.findWithItemAndBookerById(bookingId)).thenReturn(Optional.of(bookingOut));
 
         BookingResponse response = bookingService.updateBookingStatus(bookingId, approved, ownerId);
 
         assertEquals(BookingMapper.toBookingResponse(bookingOut), response);
-        verify(bookingRepository).findById(bookingId);
-        verify(itemService).checkUserItem(ownerId, booking.getItem().getId());
-        verify(bookingRepository).save(any(Booking.class));
+        verify(itemBookingLock).lock(1L);
+        verify(bookingRepository).updateWaitingStatus(bookingId, APPROVED, ownerId);
+        verify(bookingRepository).hasApprovedOverlap(bookingId);
+        verify(bookingRepository, never()).findById(bookingId);
+        verify(itemService, never()).checkUserItem(anyLong(), anyLong());
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    void updateBookingStatus_whenApprovedBookingOverlaps_thenItemIsUnavailableExceptionThrown() {
+        long bookingId = 1L;
+        long ownerId = 2L;
+        when(bookingRepository.findItemIdById(bookingId)).thenReturn(Optional.of(1L));
+        when(bookingRepository.updateWaitingStatus(bookingId, APPROVED, ownerId)).thenReturn(1);
+        when(bookingRepository.hasApprovedOverlap(bookingId)).thenReturn(true);
+
+        ItemIsUnavailableException exception = assertThrows(ItemIsUnavailableException.class,
+                () -> bookingService.updateBookingStatus(bookingId, true, ownerId));
+
+        assertEquals("Бронирование с ID: 1 пересекается с уже одобренным бронированием вещи",
+                exception.getMessage());
+        verify(itemBookingLock).lock(1L);
+        verify(bookingRepository, never()).findWithItemAndBookerById(bookingId);
+    }
+
+    @Test
+    void updateBookingStatus_whenExclusionConstraintViolated_thenItemIsUnavailableExceptionThrown() {
+        long bookingId = 1L;
+        long ownerId = 2L;
+        when(bookingRepository.updateWaitingStatus(bookingId, APPROVED, ownerId))
+                .thenThrow(new DataIntegrityViolationException("EXCL_BOOKINGS_APPROVED_OVERLAP"));
+
+        assertThrows(ItemIsUnavailableException.class,
+                () -> bookingService.updateBookingStatus(bookingId, true, ownerId));
+
+        verify(bookingRepository, never()).hasApprovedOverlap(bookingId);
+        verify(bookingRepository, never()).findWithItemAndBookerById(bookingId);
     }
 
     @Test
@@ -320,16 +377,14 @@ class BookingServiceImplTest {
                 new User(1L, "booker", "booker@yandex.ru"),
                 BookingStatus.REJECTED
         );
-        when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
-        when(itemService.checkUserItem(ownerId, booking.getItem().getId())).thenReturn(null);
-        when(bookingRepository.save(any(Booking.class))).thenReturn(bookingOut);
+        when(bookingRepository.updateWaitingStatus(bookingId, BookingStatus.REJECTED, ownerId)).thenReturn(1);
+        when(bookingRepository.findWithItemAndBookerById(bookingId)).thenReturn(Optional.of(bookingOut));
 
         BookingResponse response = bookingService.updateBookingStatus(bookingId, approved, ownerId);
 
         assertEquals(BookingMapper.toBookingResponse(bookingOut), response);
-        verify(bookingRepository).findById(bookingId);
-        verify(itemService).checkUserItem(ownerId, booking.getItem().getId());
-        verify(bookingRepository).save(any(Booking.class));
+        verify(bookingRepository).updateWaitingStatus(bookingId, BookingStatus.REJECTED, ownerId);
+        verify(bookingRepository, never()).save(any(Booking.class));
     }
 
     @Test
@@ -347,14 +402,50 @@ class BookingServiceImplTest {
                 new User(1L, "booker", "booker@yandex.ru"),
                 APPROVED
         );
+        when(bookingRepository.updateWaitingStatus(bookingId, APPROVED, ownerId)).thenReturn(0);
         when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
 
         assertThrows(BookingAlreadyVerifiedByOwnerException.class,
                 () -> bookingService.updateBookingStatus(bookingId, approved, ownerId));
         verify(bookingRepository).findById(bookingId);
+        verify(itemService, never()).checkUserItem(anyLong(), anyLong());
         verify(bookingRepository, never()).save(any(Booking.class));
     }
 
+    @Test
+    void updateBookingStatus_whenUserNotOwner_thenUserHaveNoSuchItemExceptionThrown() {
+        long bookingId = 1L;
+        long ownerId = 3L;
+        Booking booking = new Booking(
+                1L,
+                LocalDateTime.now().plusSeconds(1),
+                LocalDateTime.now().plusSeconds(2),
+                new Item(1L, "Садовая тачка",
+                        "Возит сама", true, new User(2L, "owner", "owner@yandex.ru"), null),
+                new User(1L, "booker", "booker@yandex.ru"),
+                BookingStatus.WAITING
+        );
+        when(bookingRepository.updateWaitingStatus(bookingId, APPROVED, ownerId)).thenReturn(0);
+        when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+        when(itemService.checkUserItem(ownerId, 1L)).thenThrow(new UserHaveNoSuchItemException("Не владелец"));
+
+        assertThrows(UserHaveNoSuchItemException.class,
+                () -> bookingService.updateBookingStatus(bookingId, true, ownerId));
+        verify(bookingRepository, never()).findWithItemAndBookerById(anyLong());
+    }
+
+    @Test
+    void updateBookingStatus_whenBookingNotFound_thenBookingNotFoundExceptionThrown() {
+        long bookingId = 1L;
+        long ownerId = 2L;
+        when(bookingRepository.updateWaitingStatus(bookingId, BookingStatus.REJECTED, ownerId)).thenReturn(0);
+        when(bookingRepository.findById(bookingId)).thenReturn(Optional.empty());
+        when(bookingArchiveRepository.findById(bookingId)).thenReturn(Optional.empty());
+
+        assertThrows(BookingNotFoundException.class,
+                () -> bookingService.updateBookingStatus(bookingId, false, ownerId));
+    }
+
     @Test
     void getBookingByIdForOwnerOrAuthor_whenRequesterCorrect_thenResponseContainsBooking() {
         long bookingId = 1L;
@@ -369,14 +460,13 @@ class BookingServiceImplTest {
                 new User(1L, "booker", "booker@yandex.ru"),
                 APPROVED
         );
-        when(userService.getUserById(userId)).thenReturn(null);
         when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(bookingOut));
 
         BookingResponse response = bookingService.getBookingByIdForOwnerOrAuthor(bookingId, userId);
 
         assertEquals(BookingMapper.toBookingResponse(bookingOut), response);
         verify(bookingRepository).findById(bookingId);
-        verify(userService).getUserById(userId);
+        verify(userService).checkUserExists(userId);
     }
 
     @Test
@@ -393,27 +483,25 @@ class BookingServiceImplTest {
                 new User(1L, "booker", "booker@yandex.ru"),
                 APPROVED
         );
-        when(userService.getUserById(userId)).thenReturn(null);
         when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(bookingOut));
 
         BookingResponse response = bookingService.getBookingByIdForOwnerOrAuthor(bookingId, userId);
 
         assertEquals(BookingMapper.toBookingResponse(bookingOut), response);
         verify(bookingRepository).findById(bookingId);
-        verify(userService).getUserById(userId);
+        verify(userService).checkUserExists(userId);
     }
 
     @Test
     void getBookingByIdForOwnerOrAuthor_whenBookingNotFound_thenBookingNotFoundExceptionThrown() {
         long bookingId = 1L;
         long userId = 2L;
-        when(userService.getUserById(userId)).thenReturn(null);
         when(bookingRepository.findById(bookingId)).thenReturn(Optional.empty());
 
         assertThrows(BookingNotFoundException.class, () -> bookingService
                 .getBookingByIdForOwnerOrAuthor(bookingId, userId));
 
-        verify(userService).getUserById(userId);
+        verify(userService).checkUserExists(userId);
         verify(bookingRepository).findById(bookingId);
     }
 
@@ -431,13 +519,12 @@ class BookingServiceImplTest {
                 new User(1L, "booker", "booker@yandex.ru"),
                 APPROVED
         );
-        when(userService.getUserById(userId)).thenReturn(null);
         when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(bookingOut));
 
         assertThrows(UserHasNoLinkBookingOrItemException.class, () -> bookingService
                 .getBookingByIdForOwnerOrAuthor(bookingId, userId));
 
-        verify(userService).getUserById(userId);
+        verify(userService).checkUserExists(userId);
         verify(bookingRepository).findById(bookingId);
     }
 
@@ -464,13 +551,12 @@ class BookingServiceImplTest {
         );
         List<Booking> bookingList = List.of(booking1, booking2);
         PageRequest page = PageRequest.of(brp.getFrom(), brp.getSize());
-        when(userService.getUserById(brp.getUserId())).thenReturn(null);
         when(bookingRepository.findByBookerIdOrderByStartDesc(brp.getUserId(), page)).thenReturn(bookingList);
 
         List<BookingResponse> responseList = bookingService.getAllUserBookings(brp);
 
         assertEquals((BookingMapper.toBookingResponseList(bookingList)).size(), responseList.size());
-        verify(userService).getUserById(anyLong());
+        verify(userService).checkUserExists(anyLong());
         verify(bookingRepository).findByBookerIdOrderByStartDesc(brp.getUserId(), page);
     }
 
@@ -495,14 +581,13 @@ class BookingServiceImplTest {
                 booker,
                 APPROVED);
         List<Booking> bookingList = List.of(booking1, booking2);
-        when(userService.getUserById(brp.getUserId())).thenReturn(null);
         when(bookingRepository.findByBookerIdCurrent(eq(brp.getUserId()), any(PageRequest.class)))
                 .thenReturn(bookingList);
 
         List<BookingResponse> responseList = bookingService.getAllUserBookings(brp);
 
         assertEquals((BookingMapper.toBookingResponseList(bookingList)).size(), responseList.size());
-        verify(userService).getUserById(anyLong());
+        verify(userService).checkUserExists(anyLong());
         verify(bookingRepository).findByBookerIdCurrent(eq(brp.getUserId()), any(PageRequest.class));
     }
 
@@ -527,14 +612,13 @@ class BookingServiceImplTest {
                 booker,
                 APPROVED);
         List<Booking> bookingList = List.of(booking1, booking2);
-        when(userService.getUserById(brp.getUserId())).thenReturn(null);
         when(bookingRepository.findByBookerIdPast(eq(brp.getUserId()), any(PageRequest.class)))
                 .thenReturn(bookingList);
 
         List<BookingResponse> responseList = bookingService.getAllUserBookings(brp);
 
         assertEquals((BookingMapper.toBookingResponseList(bookingList)).size(), responseList.size());
-        verify(userService).getUserById(anyLong());
+        verify(userService).checkUserExists(anyLong());
         verify(bookingRepository).findByBookerIdPast(eq(brp.getUserId()), any(PageRequest.class));
     }
 
@@ -559,14 +643,13 @@ class BookingServiceImplTest {
                 booker,
                 APPROVED);
         List<Booking> bookingList = List.of(booking1, booking2);
-        when(userService.getUserById(brp.getUserId())).thenReturn(null);
         when(bookingRepository.findByBookerIdFuture(eq(brp.getUserId()), any(PageRequest.class)))
                 .thenReturn(bookingList);
 
         List<BookingResponse> responseList = bookingService.getAllUserBookings(brp);
 
         assertEquals((BookingMapper.toBookingResponseList(bookingList)).size(), responseList.size());
-        verify(userService).getUserById(anyLong());
+        verify(userService).checkUserExists(anyLong());
         verify(bookingRepository).findByBookerIdFuture(eq(brp.getUserId()), any(PageRequest.class));
     }
 
@@ -591,14 +674,13 @@ class BookingServiceImplTest {
                 booker,
                 APPROVED);
         List<Booking> bookingList = List.of(booking1, booking2);
-        when(userService.getUserById(brp.getUserId())).thenReturn(null);
         when(bookingRepository.findByBookerIdWaiting(eq(brp.getUserId()), any(PageRequest.class)))
                 .thenReturn(bookingList);
 
         List<BookingResponse> responseList = bookingService.getAllUserBookings(brp);
 
         assertEquals((BookingMapper.toBookingResponseList(bookingList)).size(), responseList.size());
-        verify(userService).getUserById(anyLong());
+        verify(userService).checkUserExists(anyLong());
         verify(bookingRepository).findByBookerIdWaiting(eq(brp.getUserId()), any(PageRequest.class));
     }
 
@@ -623,35 +705,106 @@ class BookingServiceImplTest {
                 booker,
                 APPROVED);
         List<Booking> bookingList = List.of(booking1, booking2);
-        when(userService.getUserById(brp.getUserId())).thenReturn(null);
         when(bookingRepository.findByBookerIdRejected(eq(brp.getUserId()), any(PageRequest.class)))
                 .thenReturn(bookingList);
 
         List<BookingResponse> responseList = bookingService.getAllUserBookings(brp);
 
         assertEquals((BookingMapper.toBookingResponseList(bookingList)).size(), responseList.size());
-        verify(userService).getUserById(anyLong());
+        verify(userService).checkUserExists(anyLong());
         verify(bookingRepository).findByBookerIdRejected(eq(brp.getUserId()), any(PageRequest.class));
     }
 
     @Test
     void getAllUserBookings_whenStateUnknown_thenFailStateExceptionThrown() {
         BookingRequestParams brp = new BookingRequestParams(States.UNSUPPORTED_STATUS, 1L, 0, 5);
-        when(userService.getUserById(brp.getUserId())).thenReturn(null);
 
         assertThrows(FailStateException.class, () -> bookingService.getAllUserBookings(brp));
 
-        verify(userService).getUserById(anyLong());
+        verify(userService).checkUserExists(anyLong());
     }
 
     @Test
     void getAllUserBookings_whenStateUnknownAndFromEquals1_thenFailStateExceptionThrown() {
         BookingRequestParams brp = new BookingRequestParams(States.UNSUPPORTED_STATUS, 1L, 1, 5);
-        when(userService.getUserById(brp.getUserId())).thenReturn(null);
 
         assertThrows(FailStateException.class, () -> bookingService.getAllUserBookings(brp));
 
-        verify(userService).getUserById(anyLong());
+        verify(userService).checkUserExists(anyLong());
+    }
+
+    @Test
+    void getAllUserBookings_whenCursorPresent_thenKeysetQueryUsed() {
+        BookingCursor cursor = new BookingCursor(LocalDateTime.now(), 10L);
+        PageRequest page = PageRequest.of(0, 5);
+        Booking booking = new Booking(
+                1L,
+                LocalDateTime.now().minusSeconds(2),
+                LocalDateTime.now().minusSeconds(1),
+                new Item(1L, "Садовая тачка", "Возит сама", true, new User(), null),
+                new User(1L, "booker", "booker@yandex.ru"),
+                APPROVED
+        );
+        when(bookingRepository.findByBookerIdAllKeyset(1L, cursor.getStart(), cursor.getId(), page))
+                .thenReturn(List.of(booking));
+        when(bookingRepository.findByBookerIdCurrentKeyset(1L, cursor.getStart(), cursor.getId(), page))
+                .thenReturn(List.of(booking));
+        when(bookingRepository.findByBookerIdPastKeyset(1L, cursor.getStart(), cursor.getId(), page))
+                .thenReturn(List.of(booking));
+        when(bookingRepository.findByBookerIdFutureKeyset(1L, cursor.getStart(), cursor.getId(), page))
+                .thenReturn(List.of(booking));
+        when(bookingRepository.findByBookerIdWaitingKeyset(1L, cursor.getStart(), cursor.getId(), page))
+                .thenReturn(List.of(booking));
+        when(bookingRepository.findByBookerIdRejectedKeyset(1L, cursor.getStart(), cursor.getId(), page))
+                .thenReturn(List.of(booking));
+
+        for (States state : List.of(States.ALL, States.CURRENT, States.PAST,
+                States.FUTURE, States.WAITING, States.REJECTED)) {
+            List<BookingResponse> responseList =
+                    bookingService.getAllUserBookings(new BookingRequestParams(state, 1L, 7, 5, cursor));
+
+            assertEquals(List.of(BookingMapper.toBookingResponse(booking)), responseList);
+        }
+        assertThrows(FailStateException.class, () -> bookingService.getAllUserBookings(
+                new BookingRequestParams(States.UNSUPPORTED_STATUS, 1L, 0, 5, cursor)));
+        verify(bookingRepository, never()).findByBookerIdOrderByStartDesc(anyLong(), any(PageRequest.class));
+    }
+
+    @Test
+    void getAllOwnerBookings_whenCursorPresent_thenKeysetQueryUsed() {
+        BookingCursor cursor = new BookingCursor(LocalDateTime.now(), 10L);
+        PageRequest page = PageRequest.of(0, 5);
+        Booking booking = new Booking(
+                1L,
+                LocalDateTime.now().minusSeconds(2),
+                LocalDateTime.now().minusSeconds(1),
+                new Item(1L, "Садовая тачка", "Возит сама", true, new User(), null),
+                new User(1L, "booker", "booker@yandex.ru"),
+                APPROVED
+        );
+        when(bookingRepository.findByOwnerIdAllKeyset(1L, cursor.getStart(), cursor.getId(), page))
+                .thenReturn(List.of(booking));
+        when(bookingRepository.findByOwnerIdCurrentKeyset(1L, cursor.getStart(), cursor.getId(), page))
+                .thenReturn(List.of(booking));
+        when(bookingRepository.findByOwnerIdPastKeyset(1L, cursor.getStart(), cursor.getId(), page))
+                .thenReturn(List.of(booking));
+        when(bookingRepository.findByOwnerIdFutureKeyset(1L, cursor.getStart(), cursor.getId(), page))
+                .thenReturn(List.of(booking));
+        when(bookingRepository.findByOwnerIdWaitingKeyset(1L, cursor.getStart(), cursor.getId(), page))
+                .thenReturn(List.of(booking));
+        when(bookingRepository.findByOwnerIdRejectedKeyset(1L, cursor.getStart(), cursor.getId(), page))
+                .thenReturn(List.of(booking));
+
+        for (States state : List.of(States.ALL, States.CURRENT, States.PAST,
+                States.FUTURE, States.WAITING, States.REJECTED)) {
+            List<BookingResponse> responseList =
+                    bookingService.getAllOwnerBookings(new BookingRequestParams(state, 1L, 7, 5, cursor));
+
+            assertEquals(List.of(BookingMapper.toBookingResponse(booking)), responseList);
+        }
+        assertThrows(FailStateException.class, () -> bookingService.getAllOwnerBookings(
+                new BookingRequestParams(States.UNSUPPORTED_STATUS, 1L, 0, 5, cursor)));
+        verify(bookingRepository, never()).findByOwnerIdAll(anyLong(), any(PageRequest.class));
     }
 
     @Test
@@ -677,13 +830,12 @@ class BookingServiceImplTest {
         );
         List<Booking> bookingList = List.of(booking1, booking2);
         PageRequest page = PageRequest.of(brp.getFrom(), brp.getSize());
-        when(userService.getUserById(anyLong())).thenReturn(null);
         when(bookingRepository.findByOwnerIdAll(brp.getUserId(), page)).thenReturn(bookingList);
 
         List<BookingResponse> responseList = bookingService.getAllOwnerBookings(brp);
 
         assertEquals((BookingMapper.toBookingResponseList(bookingList)).size(), responseList.size());
-        verify(userService).getUserById(anyLong());
+        verify(userService).checkUserExists(anyLong());
         verify(bookingRepository).findByOwnerIdAll(brp.getUserId(), page);
     }
 
@@ -708,14 +860,13 @@ class BookingServiceImplTest {
                 booker,
                 APPROVED);
         List<Booking> bookingList = List.of(booking1, booking2);
-        when(userService.getUserById(anyLong())).thenReturn(null);
         when(bookingRepository.findByOwnerIdCurrent(eq(brp.getUserId()), any(PageRequest.class)))
                 .thenReturn(bookingList);
 
         List<BookingResponse> responseList = bookingService.getAllOwnerBookings(brp);
 
         assertEquals((BookingMapper.toBookingResponseList(bookingList)).size(), responseList.size());
-        verify(userService).getUserById(anyLong());
+        verify(userService).checkUserExists(anyLong());
         verify(bookingRepository).findByOwnerIdCurrent(eq(brp.getUserId()), any(PageRequest.class));
     }
 
@@ -740,14 +891,13 @@ class BookingServiceImplTest {
                 booker,
                 APPROVED);
         List<Booking> bookingList = List.of(booking1, booking2);
-        when(userService.getUserById(anyLong())).thenReturn(null);
         when(bookingRepository.findByOwnerIdPast(eq(brp.getUserId()), any(PageRequest.class)))
                 .thenReturn(bookingList);
 
         List<BookingResponse> responseList = bookingService.getAllOwnerBookings(brp);
 
         assertEquals((BookingMapper.toBookingResponseList(bookingList)).size(), responseList.size());
-        verify(userService).getUserById(anyLong());
+        verify(userService).checkUserExists(anyLong());
         verify(bookingRepository).findByOwnerIdPast(eq(brp.getUserId()), any(PageRequest.class));
     }
 
@@ -772,14 +922,13 @@ class BookingServiceImplTest {
                 booker,
                 APPROVED);
         List<Booking> bookingList = List.of(booking1, booking2);
-        when(userService.getUserById(anyLong())).thenReturn(null);
         when(bookingRepository.findByOwnerIdFuture(eq(brp.getUserId()), any(PageRequest.class)))
                 .thenReturn(bookingList);
 
         List<BookingResponse> responseList = bookingService.getAllOwnerBookings(brp);
 
         assertEquals((BookingMapper.toBookingResponseList(bookingList)).size(), responseList.size());
-        verify(userService).getUserById(anyLong());
+        verify(userService).checkUserExists(anyLong());
         verify(bookingRepository).findByOwnerIdFuture(eq(brp.getUserId()), any(PageRequest.class));
     }
 
@@ -804,14 +953,13 @@ class BookingServiceImplTest {
                 booker,
                 APPROVED);
         List<Booking> bookingList = List.of(booking1, booking2);
-        when(userService.getUserById(anyLong())).thenReturn(null);
         when(bookingRepository.findByOwnerIdWaiting(eq(brp.getUserId()), any(PageRequest.class)))
                 .thenReturn(bookingList);
 
         List<BookingResponse> responseList = bookingService.getAllOwnerBookings(brp);
 
         assertEquals((BookingMapper.toBookingResponseList(bookingList)).size(), responseList.size());
-        verify(userService).getUserById(anyLong());
+        verify(userService).checkUserExists(anyLong());
         verify(bookingRepository).findByOwnerIdWaiting(eq(brp.getUserId()), any(PageRequest.class));
     }
 
@@ -836,34 +984,249 @@ class BookingServiceImplTest {
                 booker,
                 APPROVED);
         List<Booking> bookingList = List.of(booking1, booking2);
-        when(userService.getUserById(anyLong())).thenReturn(null);
         when(bookingRepository.findByOwnerIdRejected(eq(brp.getUserId()), any(PageRequest.class)))
                 .thenReturn(bookingList);
 
         List<BookingResponse> responseList = bookingService.getAllOwnerBookings(brp);
 
         assertEquals((BookingMapper.toBookingResponseList(bookingList)).size(), responseList.size());
-        verify(userService).getUserById(anyLong());
+        verify(userService).checkUserExists(anyLong());
         verify(bookingRepository).findByOwnerIdRejected(eq(brp.getUserId()), any(PageRequest.class));
     }
 
     @Test
     void getAllOwnerBookings_whenStateUnknown_thenFailStateExceptionThrown() {
         BookingRequestParams brp = new BookingRequestParams(States.UNSUPPORTED_STATUS, 1L, 0, 5);
-        when(userService.getUserById(anyLong())).thenReturn(null);
 
         assertThrows(FailStateException.class, () -> bookingService.getAllOwnerBookings(brp));
 
-        verify(userService).getUserById(anyLong());
+        verify(userService).checkUserExists(anyLong());
     }
 
     @Test
     void getAllOwnerBookings_whenStateUnknownAndFromEquals1_thenFailStateExceptionThrown() {
         BookingRequestParams brp = new BookingRequestParams(States.UNSUPPORTED_STATUS, 1L, 1, 5);
-        when(userService.getUserById(anyLong())).thenReturn(null);
 
         assertThrows(FailStateException.class, () -> bookingService.getAllOwnerBookings(brp));
 
-        verify(userService).getUserById(anyLong());
+        verify(userService).checkUserExists(anyLong());
+    }
+
+    @Test
+    void getBookingByIdForOwnerOrAuthor_whenBookingArchived_thenResponseContainsArchivedBooking() {
+        long bookingId = 1L;
+        long userId = 2L;
+        ArchivedBooking archivedBooking = new ArchivedBooking(
+                bookingId,
+                LocalDateTime.now().minusDays(200),
+                LocalDateTime.now().minusDays(199),
+                new Item(1L, "Садовая тачка", "Возит сама", true, new User(1L, "owner", "owner@yandex.ru"), null),
+                new User(userId, "booker", "booker@yandex.ru"),
+                APPROVED
+        );
+        when(bookingRepository.findById(bookingId)).thenReturn(Optional.empty());
+        when(bookingArchiveRepository.findById(bookingId)).thenReturn(Optional.of(archivedBooking));
+
+        BookingResponse response = bookingService.getBookingByIdForOwnerOrAuthor(bookingId, userId);
+
+        assertEquals(BookingMapper.toBookingResponse(BookingMapper.toBookingEntity(archivedBooking)), response);
+    }
+
+    @Test
+    void getAllUserBookings_whenPageFullOfRecentBookings_thenArchiveNotQueried() {
+        BookingRequestParams brp = new BookingRequestParams(States.ALL, 1L, 0, 2);
+        List<Booking> bookingList = List.of(pastBooking(2L, 2), pastBooking(1L, 3));
+        when(bookingRepository.findByBookerIdOrderByStartDesc(1L, PageRequest.of(0, 2))).thenReturn(bookingList);
+
+        List<BookingResponse> responseList = bookingService.getAllUserBookings(brp);
+
+        assertEquals(BookingMapper.toBookingResponseList(bookingList), responseList);
+        verifyNoInteractions(bookingArchiveRepository);
+    }
+
+    @Test
+    void getAllUserBookings_whenPageNotFull_thenArchivedBookingsMergedByStart() {
+        BookingRequestParams brp = new BookingRequestParams(States.PAST, 1L, 0, 3);
+        Booking recent = pastBooking(3L, 2);
+        ArchivedBooking older = archivedBooking(1L, 300);
+        ArchivedBooking oldest = archivedBooking(2L, 400);
+        when(bookingRepository.findByBookerIdPast(1L, PageRequest.of(0, 3))).thenReturn(List.of(recent));
+        when(bookingArchiveRepository.findByBookerId(1L, PageRequest.of(0, 3))).thenReturn(List.of(older, oldest));
+
+        List<BookingResponse> responseList = bookingService.getAllUserBookings(brp);
+
+        assertEquals(List.of(3L, 1L, 2L), responseList.stream().map(BookingResponse::getId).collect(toList()));
+    }
+
+    @Test
+    void getAllOwnerBookings_whenSecondPageReachesArchive_thenTopRowsOfBothTablesMerged() {
+        BookingRequestParams brp = new BookingRequestParams(States.ALL, 1L, 2, 2);
+        List<Booking> hotTop = List.of(pastBooking(5L, 2), pastBooking(4L, 3), pastBooking(3L, 250));
+        when(bookingRepository.findByOwnerIdAll(1L, PageRequest.of(1, 2))).thenReturn(List.of(hotTop.get(2)));
+        when(bookingRepository.findByOwnerIdAll(1L, PageRequest.of(0, 4))).thenReturn(hotTop);
+        when(bookingArchiveRepository.findByOwnerId(1L, PageRequest.of(0, 4)))
+                .thenReturn(List.of(archivedBooking(1L, 200), archivedBooking(2L, 300)));
+
+        List<BookingResponse> responseList = bookingService.getAllOwnerBookings(brp);
+
+        assertEquals(List.of(1L, 3L), responseList.stream().map(BookingResponse::getId).collect(toList()));
+    }
+
+    @Test
+    void getAllOwnerBookings_whenCursorPageNotFull_thenArchiveQueriedAfterSameCursor() {
+        BookingCursor cursor = new BookingCursor(LocalDateTime.now(), 10L);
+        PageRequest page = PageRequest.of(0, 2);
+        when(bookingRepository.findByOwnerIdPastKeyset(1L, cursor.getStart(), cursor.getId(), page))
+                .thenReturn(List.of(pastBooking(3L, 2)));
+        when(bookingArchiveRepository.findByOwnerIdKeyset(1L, cursor.getStart(), cursor.getId(), page))
+                .thenReturn(List.of(archivedBooking(1L, 300), archivedBooking(2L, 400)));
+
+        List<BookingResponse> responseList =
+                bookingService.getAllOwnerBookings(new BookingRequestParams(States.PAST, 1L, 0, 2, cursor));
+
+        assertEquals(List.of(3L, 1L), responseList.stream().map(BookingResponse::getId).collect(toList()));
+    }
+
+    private Booking pastBooking(long id, int startedDaysAgo) {
+        return new Booking(id, LocalDateTime.now().minusDays(startedDaysAgo),
+                LocalDateTime.now().minusDays(startedDaysAgo - 1),
+                new Item(1L, "Садовая тачка", "Возит сама", true, new User(), null),
+                new User(1L, "booker", "booker@yandex.ru"), APPROVED);
+    }
+
+    private ArchivedBooking archivedBooking(long id, int startedDaysAgo) {
+        return new ArchivedBooking(id, LocalDateTime.now().minusDays(startedDaysAgo),
+                LocalDateTime.now().minusDays(startedDaysAgo - 1),
+                new Item(1L, "Садовая тачка", "Возит сама", true, new User(), null),
+                new User(1L, "booker", "booker@yandex.ru"), APPROVED);
+    }
+
+    @Test
+    void createAll_whenSomeElementsInvalid_thenValidInsertedAndOthersReported() {
+        User booker = new User(1L, "booker", "booker@yandex.ru");
+        Item item = new Item(1L, "Садовая тачка", "Возит сама", true,
+                new User(2L, "owner", "owner@yandex.ru"), null);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Booking approved = new Booking(7L, start.plusDays(10), start.plusDays(11), item, booker, APPROVED);
+        List<BookingRequest> bookingRequests = List.of(
+                new BookingRequest(1L, start, start.plusDays(1)),
+                new BookingRequest(5L, start, start.plusDays(1)),
+                new BookingRequest(1L, start.plusDays(9), start.plusDays(10)));
+        when(userService.getUserById(1L)).thenReturn(booker);
+        when(itemService.getItemsByIds(Set.of(1L, 5L))).thenReturn(List.of(item));
+        when(bookingRepository.findApprovedByItemIdInAndEndFrom(Set.of(1L), start)).thenReturn(List.of(approved));
+        doAnswer(invocation -> {
+            List<Booking> bookings = invocation.getArgument(0);
+            bookings.get(0).setId(10L);
+            return null;
+        }).when(bookingRepository).insertAll(anyList());
+
+        List<BookingBatchResult> results = bookingService.createAll(bookingRequests, 1L);
+
+        assertEquals(List.of(201, 404, 400), results.stream().map(BookingBatchResult::getStatus).collect(toList()));
+        assertEquals(10L, results.get(0).getBooking().getId());
+        assertEquals(WAITING, results.get(0).getBooking().getStatus());
+        assertEquals("Вещь с ID 5 не существует", results.get(1).getError());
+        assertEquals("Запрашиваемая вещь с ID: 1 забронирована на указанное время", results.get(2).getError());
+        verifyNoInteractions(itemBookingLock);
+        verify(bookingRepository).insertAll(argThat(bookings -> bookings.size() == 1));
+    }
+
+    @Test
+    void updateBookingStatuses_whenElementsFailDifferently_thenEachReportedWithStatus() {
+        User owner = new User(2L, "owner", "owner@yandex.ru");
+        User booker = new User(1L, "booker", "booker@yandex.ru");
+        Item item = new Item(1L, "Садовая тачка", "Возит сама", true, owner, null);
+        Item foreignItem = new Item(2L, "Дрель", "Сверлит", true, booker, null);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Booking waiting = new Booking(1L, start, start.plusDays(1), item, booker, WAITING);
+        Booking verified = new Booking(2L, start, start.plusDays(1), item, booker, APPROVED);
+        Booking foreign = new Booking(5L, start, start.plusDays(1), foreignItem, owner, WAITING);
+        List<BookingStatusRequest> statusRequests = List.of(
+                new BookingStatusRequest(1L, true),
+                new BookingStatusRequest(2L, false),
+                new BookingStatusRequest(3L, true),
+                new BookingStatusRequest(4L, true),
+                new BookingStatusRequest(5L, true));
+        when(bookingRepository.findItemIdsByIdIn(Set.of(1L, 2L, 3L, 4L, 5L))).thenReturn(List.of(1L, 2L));
+        when(bookingRepository.findWithItemAndBookerByIdIn(Set.of(1L, 2L, 3L, 4L, 5L)))
+                .thenReturn(List.of(waiting, verified, foreign));
+        when(bookingArchiveRepository.findAllById(any()))
+                .thenReturn(List.of(ArchivedBooking.builder().id(3L).build()));
+        when(itemBookingLock.isEnabled()).thenReturn(true);
+        when(bookingRepository.findApprovedByItemIdInAndEndFrom(Set.of(1L, 2L), start)).thenReturn(List.of());
+
+        List<BookingBatchResult> results = bookingService.updateBookingStatuses(statusRequests, 2L);
+
+        assertEquals(List.of(200, 400, 400, 404, 404),
+                results.stream().map(BookingBatchResult::getStatus).collect(toList()));
+        assertEquals(APPROVED, waiting.getStatus());
+        assertEquals(WAITING, foreign.getStatus());
+        assertEquals("Бронирования с ID 4 не существует", results.get(3).getError());
+        verify(itemBookingLock).lockAll(List.of(1L, 2L));
+        verify(bookingRepository).flush();
+    }
+
+    @Test
+    void updateBookingStatuses_whenBatchEmpty_thenNothingQueried() {
+        assertEquals(List.of(), bookingService.updateBookingStatuses(List.of(), 2L));
+
+        verifyNoInteractions(bookingRepository, itemBookingLock);
+    }
+
+    @Test
+    void updateBookingStatuses_whenLockDisabledAndBatchApproves_thenWholeBatchRejected() {
+        List<BookingStatusRequest> statusRequests = List.of(
+                new BookingStatusRequest(1L, false),
+                new BookingStatusRequest(2L, true));
+
+        assertThrows(BookingBatchApprovalUnsupportedException.class,
+                () -> bookingService.updateBookingStatuses(statusRequests, 2L));
+
+        verify(itemBookingLock, never()).lockAll(any());
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void updateBookingStatuses_whenLockDisabledAndBatchOnlyRejects_thenDecisionsSaved() {
+        User owner = new User(2L, "owner", "owner@yandex.ru");
+        Item item = new Item(1L, "Садовая тачка", "Возит сама", true, owner, null);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Booking waiting = new Booking(1L, start, start.plusDays(1), item,
+                new User(1L, "booker", "booker@yandex.ru"), WAITING);
+        when(bookingRepository.findWithItemAndBookerByIdIn(Set.of(1L))).thenReturn(List.of(waiting));
+
+        List<BookingBatchResult> results = bookingService.updateBookingStatuses(
+                List.of(new BookingStatusRequest(1L, false)), 2L);
+
+        assertEquals(200, results.get(0).getStatus());
+        assertEquals(REJECTED, waiting.getStatus());
+        verify(bookingRepository).flush();
+    }
+
+    /*
+     * Пересечение с одобрением другого экземпляра обнаруживается только при записи: пакет отклоняется целиком
+     */
+    @Test
+    void updateBookingStatuses_whenFlushViolatesExclusion_thenItemIsUnavailableExceptionThrown() {
+        User owner = new User(2L, "owner", "owner@yandex.ru");
+        Item item = new Item(1L, "Садовая тачка", "Возит сама", true, owner, null);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        User booker = new User(1L, "booker", "booker@yandex.ru");
+        Booking first = new Booking(1L, start, start.plusDays(1), item, booker, WAITING);
+        Booking second = new Booking(2L, start.plusDays(2), start.plusDays(3), item, booker, WAITING);
+        when(itemBookingLock.isEnabled()).thenReturn(true);
+        when(bookingRepository.findWithItemAndBookerByIdIn(Set.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(bookingRepository.findApprovedByItemIdInAndEndFrom(Set.of(1L), start)).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("EXCL_BOOKINGS_APPROVED_OVERLAP"))
+                .when(bookingRepository).flush();
+
+        ItemIsUnavailableException exception = assertThrows(ItemIsUnavailableException.class,
+                () -> bookingService.updateBookingStatuses(List.of(
+                        new BookingStatusRequest(1L, true),
+                        new BookingStatusRequest(2L, true)), 2L));
+
+        assertTrue(exception.getMessage().contains("ни одно решение пакета не сохранено"));
+        verifyNoInteractions(bookingArchiveRepository);
     }
-}
\ No newline at end of file
+}
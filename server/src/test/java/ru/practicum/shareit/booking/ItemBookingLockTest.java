@@ -0,0 +1,135 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ItemBookingLockTest {
+
+    private final EntityManager entityManager = mock(EntityManager.class);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void lock_whenLocal_thenHeldUntilTransactionCompletes() {
+        ItemBookingLock itemBookingLock = new ItemBookingLock(new BookingLockProperties(), entityManager);
+        ReentrantLock stripe = itemBookingLock.stripeFor(7L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        itemBookingLock.lock(7L);
+
+        assertTrue(itemBookingLock.isEnabled());
+        assertTrue(stripe.isHeldByCurrentThread());
+        assertFalse(CompletableFuture.supplyAsync(stripe::tryLock).join());
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertFalse(stripe.isLocked());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void stripeFor_whenSequentialItemIds_thenSpreadOverStripes() {
+        BookingLockProperties properties = new BookingLockProperties();
+        properties.setStripes(1000);
+        ItemBookingLock itemBookingLock = new ItemBookingLock(properties, entityManager);
+
+        long distinct = LongStream.range(1, 65)
+                .mapToObj(itemBookingLock::stripeFor)
+                .distinct()
+                .count();
+
+        assertSame(itemBookingLock.stripeFor(42L), itemBookingLock.stripeFor(42L));
+        assertTrue(distinct > 56, "Последовательные id попали в " + distinct + " блокировок из 64");
+    }
+
+    @Test
+    void lock_whenAdvisory_thenTransactionScopedLockQueried() {
+        BookingLockProperties properties = new BookingLockProperties();
+        properties.setMode(BookingLockProperties.Mode.ADVISORY);
+        Query query = mock(Query.class);
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+        when(query.setParameter(1, 7L)).thenReturn(query);
+        TransactionSynchronizationManager.initSynchronization();
+
+        new ItemBookingLock(properties, entityManager).lock(7L);
+
+        verify(entityManager).createNativeQuery("SELECT 1 FROM pg_advisory_xact_lock(?1)");
+        verify(query).getSingleResult();
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+    }
+
+    @Test
+    void lock_whenNone_thenNothingLocked() {
+        BookingLockProperties properties = new BookingLockProperties();
+        properties.setMode(BookingLockProperties.Mode.NONE);
+        TransactionSynchronizationManager.initSynchronization();
+
+        ItemBookingLock itemBookingLock = new ItemBookingLock(properties, entityManager);
+
+        itemBookingLock.lock(7L);
+
+        assertFalse(itemBookingLock.isEnabled());
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void lock_whenNoTransaction_thenIllegalStateExceptionThrown() {
+        ItemBookingLock itemBookingLock = new ItemBookingLock(new BookingLockProperties(), entityManager);
+
+        assertThrows(IllegalStateException.class, () -> itemBookingLock.lock(7L));
+    }
+
+    @Test
+    void lockAll_whenItemsShareStripe_thenEachStripeLockedOnce() {
+        BookingLockProperties properties = new BookingLockProperties();
+        properties.setStripes(1);
+        ItemBookingLock itemBookingLock = new ItemBookingLock(properties, entityManager);
+        TransactionSynchronizationManager.initSynchronization();
+
+        itemBookingLock.lockAll(List.of(3L, 1L, 2L));
+
+        assertEquals(1, itemBookingLock.stripeFor(1L).getHoldCount());
+        assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+    }
+
+    @Test
+    void lockAll_whenAdvisory_thenItemsLockedInIdOrder() {
+        BookingLockProperties properties = new BookingLockProperties();
+        properties.setMode(BookingLockProperties.Mode.ADVISORY);
+        Query query = mock(Query.class);
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+        when(query.setParameter(anyInt(), anyLong())).thenReturn(query);
+        TransactionSynchronizationManager.initSynchronization();
+
+        new ItemBookingLock(properties, entityManager).lockAll(List.of(3L, 1L, 3L, 2L));
+
+        InOrder inOrder = inOrder(query);
+        inOrder.verify(query).setParameter(1, 1L);
+        inOrder.verify(query).setParameter(1, 2L);
+        inOrder.verify(query).setParameter(1, 3L);
+        verify(query, times(3)).getSingleResult();
+        verify(entityManager, times(3)).createNativeQuery(ItemBookingLock.ADVISORY_LOCK_QUERY);
+    }
+}
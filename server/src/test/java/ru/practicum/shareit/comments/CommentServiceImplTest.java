@@ -5,6 +5,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.BookingArchiveRepository;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.comments.dto.CommentRequest;
@@ -40,6 +41,9 @@ class CommentServiceImplTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private BookingArchiveRepository bookingArchiveRepository;
+
     @Mock
     private CommentRepository commentRepository;
 
@@ -100,4 +104,27 @@ class CommentServiceImplTest {
         verify(bookingRepository).findAllByBookerIdAndItemIdAndAfterEnd(bookerId, itemId);
         verify(commentRepository, never()).save(any(Comment.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void create_whenCompletedBookingArchived_thenCommentCreate() {
+        long itemId = 1L;
+        long bookerId = 2L;
+        User user = new User(1L, "user", "user@yandex.ru");
+        User user2 = new User(2L, "booker", "user2@yandex.ru");
+        Item item = new Item(1L, "Кухонный комбайн", "Готовит сам", true, user, null);
+        CommentRequest commentRequest = new CommentRequest("Комментарий к вещи 1");
+        Comment comment = new Comment(1L, "Комментарий к вещи 1", item, user2, LocalDateTime.now());
+
+        when(userService.getUserById(bookerId)).thenReturn(user2);
+        when(itemService.getItemById(itemId)).thenReturn(item);
+        when(bookingRepository.findAllByBookerIdAndItemIdAndAfterEnd(bookerId, itemId))
+                .thenReturn(Collections.emptyList());
+        when(bookingArchiveRepository.existsByBookerIdAndItemId(bookerId, itemId)).thenReturn(true);
+        when(commentRepository.save(any(Comment.class))).thenReturn(comment);
+
+        CommentResponse response = commentServiceImpl.create(itemId, bookerId, commentRequest);
+
+        assertEquals(CommentMapper.toCommentResponse(comment), response);
+        verify(bookingArchiveRepository).existsByBookerIdAndItemId(bookerId, itemId);
+    }
+}
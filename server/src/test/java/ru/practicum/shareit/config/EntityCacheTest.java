@@ -0,0 +1,118 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.exception.ItemNotFoundException;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserRequest;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "shareit.cache.statistics=true")
+class EntityCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    private User owner;
+
+    private User requester;
+
+    private Item item;
+
+    @BeforeEach
+    void init() {
+        long unique = System.nanoTime();
+        owner = userRepository.save(new User("owner", "owner" + unique + "@cache.ru"));
+        requester = userRepository.save(new User("requester", "requester" + unique + "@cache.ru"));
+        ItemRequest itemRequest = itemRequestRepository.save(ItemRequest.builder()
+                .description("Нужна дрель")
+                .requester(requester)
+                .created(LocalDateTime.now())
+                .build());
+        item = itemRepository.save(Item.builder()
+                .name("Дрель")
+                .description("Чтобы сверлить")
+                .available(true)
+                .owner(owner)
+                .request(itemRequest)
+                .build());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getUserById_whenCached_thenNoStatementsExecuted() {
+        entityManagerFactory.getCache().evictAll();
+        userService.getUserById(owner.getId());
+        itemService.getItemById(item.getId());
+        statistics.clear();
+
+        assertEquals("owner", userService.getUserById(owner.getId()).getName());
+        itemService.checkUserItem(owner.getId(), item.getId());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", User.class.getName())
+                .tag("result", "hit")
+                .functionCounter().count() > 0);
+    }
+
+    @Test
+    void updateUser_whenCached_thenCacheHoldsNewValue() {
+        userService.getUserById(owner.getId());
+
+        userService.updateUser(owner.getId(), new UserRequest("updated", null));
+        statistics.clear();
+
+        assertEquals("updated", userService.getUserById(owner.getId()).getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void deleteUser_whenRequestedItemCached_thenItemEvicted() {
+        itemService.getItemById(item.getId());
+        assertTrue(entityManagerFactory.getCache().contains(Item.class, item.getId()));
+
+        userService.deleteUser(requester.getId());
+
+        assertFalse(entityManagerFactory.getCache().contains(Item.class, item.getId()));
+        assertThrows(ItemNotFoundException.class, () -> itemService.getItemById(item.getId()));
+        assertEquals("owner", userService.getUserById(owner.getId()).getName());
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadYourWritesTest {
+
+    @Test
+    void start_whenUserWroteWithinStickiness_thenPinnedToPrimary() {
+        ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofMinutes(1));
+
+        readYourWrites.start(1L, false);
+        assertFalse(readYourWrites.isPinned());
+        readYourWrites.finish(1L, true);
+
+        readYourWrites.start(1L, false);
+        assertTrue(readYourWrites.isPinned());
+        readYourWrites.finish(1L, false);
+        assertFalse(readYourWrites.isPinned());
+
+        readYourWrites.start(2L, false);
+        assertFalse(readYourWrites.isPinned());
+        readYourWrites.finish(2L, false);
+    }
+
+    @Test
+    void evictExpired_whenStickinessPassed_thenUserReadsFromReplicas() {
+        ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ZERO);
+        readYourWrites.finish(1L, true);
+
+        readYourWrites.start(1L, false);
+        assertFalse(readYourWrites.isPinned());
+        readYourWrites.evictExpired();
+        assertEquals(0, readYourWrites.size());
+    }
+}
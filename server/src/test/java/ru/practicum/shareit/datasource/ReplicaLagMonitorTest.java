@@ -0,0 +1,58 @@
+package ru.practicum.shareit.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaLagMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ReplicaRoutingProperties properties = new ReplicaRoutingProperties();
+
+    @Test
+    @SneakyThrows
+    void check_whenReplicaBehindOrUnreachable_thenExcludedFromReads() {
+        DataSource unreachable = mock(DataSource.class);
+        when(unreachable.getConnection()).thenThrow(new SQLException("Connection refused"));
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", new DriverManagerDataSource("jdbc:h2:mem:lag"));
+        replicas.put("replica-1", unreachable);
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(mock(DataSource.class),
+                replicas, new ReadYourWrites(Duration.ZERO));
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(routingDataSource, properties);
+        monitor.bindTo(meterRegistry);
+        properties.setLagQuery("SELECT 2");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try {
+            monitor.check();
+            assertEquals("replica-0", routingDataSource.route());
+            assertEquals("replica-0", routingDataSource.route());
+            assertEquals(2.0, lag("replica-0"));
+            assertEquals(Double.POSITIVE_INFINITY, lag("replica-1"));
+
+            properties.setMaxLag(Duration.ofSeconds(1));
+            monitor.check();
+            assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.route());
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private double lag(String replica) {
+        return meterRegistry.get(ReplicaLagMonitor.METRIC_NAME).tag("replica", replica).gauge().value();
+    }
+}
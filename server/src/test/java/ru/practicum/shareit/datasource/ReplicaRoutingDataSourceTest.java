@@ -0,0 +1,96 @@
+package ru.practicum.shareit.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final HikariDataSource replica = mock(HikariDataSource.class);
+
+    private final ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofMinutes(1));
+
+    private final ReplicaRoutingDataSource routingDataSource = routingDataSource();
+
+    @AfterEach
+    void reset() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        readYourWrites.finish(null, false);
+    }
+
+    @Test
+    void route_whenNotReadOnly_thenPrimary() {
+        routingDataSource.setAvailableReplicas(List.of("replica-0"));
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.route());
+    }
+
+    @Test
+    @SneakyThrows
+    void getConnection_whenRouted_thenConnectionCountedByTarget() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        routingDataSource.bindTo(meterRegistry);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        routingDataSource.setAvailableReplicas(List.of("replica-0"));
+
+        routingDataSource.getConnection();
+
+        verify(replica).getConnection();
+        assertEquals(1.0, meterRegistry.get(ReplicaRoutingDataSource.METRIC_NAME)
+                .tag("target", "replica-0").functionCounter().count());
+    }
+
+    @Test
+    void route_whenReadOnly_thenAvailableReplicasInTurn() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        routingDataSource.setAvailableReplicas(List.of("replica-0", "replica-1"));
+
+        assertEquals("replica-0", routingDataSource.route());
+        assertEquals("replica-1", routingDataSource.route());
+        assertEquals("replica-0", routingDataSource.route());
+    }
+
+    @Test
+    void route_whenNoReplicaAvailable_thenPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.route());
+    }
+
+    @Test
+    void route_whenPinnedByWrite_thenPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        routingDataSource.setAvailableReplicas(List.of("replica-0"));
+        readYourWrites.start(null, true);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.route());
+    }
+
+    @Test
+    @SneakyThrows
+    void close_whenClosed_thenReplicaPoolsClosed() {
+        routingDataSource.close();
+
+        verify(replica).close();
+    }
+
+    private ReplicaRoutingDataSource routingDataSource() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica);
+        replicas.put("replica-1", mock(DataSource.class));
+        return new ReplicaRoutingDataSource(mock(DataSource.class), replicas, readYourWrites);
+    }
+}
@@ -0,0 +1,99 @@
+package ru.practicum.shareit.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.item.dto.ItemDtoIn;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+ * Реплика replica-0 - та же база H2 в памяти, что и основная, то есть реплика без отставания;
+ * replica-1 не существует и должна исключаться из чтения
+ */
+@SpringBootTest(properties = {
+        "shareit.datasource.routing.enabled=true",
+        "shareit.datasource.routing.replicas[0].url=jdbc:h2:mem:shareit",
+        "shareit.datasource.routing.replicas[0].username=test",
+        "shareit.datasource.routing.replicas[0].password=test",
+        "shareit.datasource.routing.replicas[1].url=jdbc:h2:mem:shareit-missing;IFEXISTS=TRUE",
+        "shareit.datasource.routing.lag-query=SELECT 0",
+        "shareit.datasource.routing.stickiness=PT1M"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+
+    @BeforeEach
+    void init() {
+        replicaLagMonitor.check();
+        owner = userRepository.save(new User("owner", "owner" + System.nanoTime() + "@replica.ru"));
+    }
+
+    @Test
+    @SneakyThrows
+    void get_whenReadOnlyTransaction_thenAvailableReplicaUsed() {
+        double primary = connections(ReplicaRoutingDataSource.PRIMARY);
+        double replica = connections("replica-0");
+
+        mockMvc.perform(get("/users/{userId}", owner.getId()))
+                .andExpect(status().isOk());
+
+        assertEquals(primary, connections(ReplicaRoutingDataSource.PRIMARY));
+        assertTrue(connections("replica-0") > replica);
+        assertEquals(0, connections("replica-1"));
+        assertEquals(Double.POSITIVE_INFINITY, meterRegistry.get(ReplicaLagMonitor.METRIC_NAME)
+                .tag("replica", "replica-1").gauge().value());
+    }
+
+    @Test
+    @SneakyThrows
+    void get_whenUserWroteRecently_thenPrimaryUsed() {
+        mockMvc.perform(post("/items")
+                        .header(ReadYourWritesInterceptor.USER_HEADER, owner.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(new ItemDtoIn("Дрель", "Чтобы сверлить", true))))
+                .andExpect(status().isOk());
+        double primary = connections(ReplicaRoutingDataSource.PRIMARY);
+        double replica = connections("replica-0");
+
+        mockMvc.perform(get("/items").header(ReadYourWritesInterceptor.USER_HEADER, owner.getId()))
+                .andExpect(status().isOk());
+
+        assertTrue(connections(ReplicaRoutingDataSource.PRIMARY) > primary);
+        assertEquals(replica, connections("replica-0"));
+    }
+
+    private double connections(String target) {
+        return meterRegistry.get(ReplicaRoutingDataSource.METRIC_NAME).tag("target", target).functionCounter().count();
+    }
+}
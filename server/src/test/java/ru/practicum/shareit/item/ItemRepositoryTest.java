@@ -29,6 +29,8 @@ class ItemRepositoryTest {
 
     private User user1;
 
+    private ItemRequest itemRequest1;
+
     private ItemRequest itemRequest2;
 
 
@@ -37,7 +39,7 @@ class ItemRepositoryTest {
         user1 = userRepository.save(new User("user1", "user1@yandex.ru"));
         User user2 = userRepository.save(new User("user2", "user2@yandex.ru"));
 
-        ItemRequest itemRequest1 = itemRequestRepository.save(ItemRequest.builder()
+        itemRequest1 = itemRequestRepository.save(ItemRequest.builder()
                 .description("Нужен аквариум")
                 .requester(user1)
                 .build());
@@ -92,8 +94,32 @@ class ItemRepositoryTest {
         List<Item> itemList = itemRepository.findByNameContainingOrDescriptionContaining(text.toUpperCase(), page);
 
         assertEquals(2, itemList.size());
+        assertEquals("Рыбки", itemList.get(0).getName());
+        assertEquals("Аквариум", itemList.get(1).getName());
+    }
+
+    @Test
+    void findByNameContainingOrDescriptionContaining_whenMatchedDifferently_thenRankedByNameMatch() {
+        itemRepository.save(Item.builder()
+                .name("Большой аквариум")
+                .description("На 200 литров")
+                .available(true)
+                .owner(user1)
+                .build());
+        itemRepository.save(Item.builder()
+                .name("Грунт")
+                .description("Для аквариума")
+                .available(false)
+                .owner(user1)
+                .build());
+        PageRequest page = PageRequest.of(0, 5);
+
+        List<Item> itemList = itemRepository.findByNameContainingOrDescriptionContaining("АКВАРИУМ", page);
+
+        assertEquals(3, itemList.size());
         assertEquals("Аквариум", itemList.get(0).getName());
-        assertEquals("Рыбки", itemList.get(1).getName());
+        assertEquals("Большой аквариум", itemList.get(1).getName());
+        assertEquals("Рыбки", itemList.get(2).getName());
     }
 
     @Test
@@ -103,4 +129,13 @@ class ItemRepositoryTest {
         assertEquals(1, itemList.size());
         assertEquals("Рыбки", itemList.get(0).getName());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByRequestIdIn_whenInvokedForSeveralRequests_thenItemsOfAllRequestsReturnedInOneList() {
+        List<Item> itemList = itemRepository.findByRequestIdIn(List.of(itemRequest1.getId(), itemRequest2.getId()));
+
+        assertEquals(2, itemList.size());
+        assertEquals(itemRequest1.getId(), itemList.get(0).getRequest().getId());
+        assertEquals(itemRequest2.getId(), itemList.get(1).getRequest().getId());
+    }
+}
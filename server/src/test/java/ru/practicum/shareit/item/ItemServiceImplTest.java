@@ -20,7 +20,6 @@ import ru.practicum.shareit.mapper.ItemMapper;
 import ru.practicum.shareit.request.ItemRequestService;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.UserService;
-import ru.practicum.shareit.user.dto.UserResponse;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
@@ -28,8 +27,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -84,15 +85,15 @@ class ItemServiceImplTest {
 
         when(commentRepository.findAllByItemId(itemId)).thenReturn(Collections.emptyList());
         when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
-        when(bookingRepository.findLastBookingForItem(itemId)).thenReturn(Collections.emptyList());
-        when(bookingRepository.findNextBookingForItem(itemId)).thenReturn(Collections.emptyList());
+        when(bookingRepository.findLastBookingForItem(eq(itemId), any(PageRequest.class))).thenReturn(Collections.emptyList());
+        when(bookingRepository.findNextBookingForItem(eq(itemId), any(PageRequest.class))).thenReturn(Collections.emptyList());
 
         ItemDtoOut response = itemServiceImpl.getItemDtoByIdForAll(itemId, userId);
 
         assertEquals(itemOut, response);
         verify(commentRepository).findAllByItemId(itemId);
-        verify(bookingRepository).findLastBookingForItem(itemId);
-        verify(bookingRepository).findNextBookingForItem(itemId);
+        verify(bookingRepository).findLastBookingForItem(eq(itemId), any(PageRequest.class));
+        verify(bookingRepository).findNextBookingForItem(eq(itemId), any(PageRequest.class));
     }
 
     @Test
@@ -128,15 +129,15 @@ class ItemServiceImplTest {
         );
         when(commentRepository.findAllByItemId(itemId)).thenReturn(Collections.emptyList());
         when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
-        when(bookingRepository.findLastBookingForItem(itemId)).thenReturn(List.of(last));
-        when(bookingRepository.findNextBookingForItem(itemId)).thenReturn(List.of(next));
+        when(bookingRepository.findLastBookingForItem(eq(itemId), any(PageRequest.class))).thenReturn(List.of(BookingMapper.toBookingResponseShort(last)));
+        when(bookingRepository.findNextBookingForItem(eq(itemId), any(PageRequest.class))).thenReturn(List.of(BookingMapper.toBookingResponseShort(next)));
 
         ItemDtoOut response = itemServiceImpl.getItemDtoByIdForAll(itemId, userId);
 
         assertEquals(itemOut, response);
         verify(commentRepository).findAllByItemId(itemId);
-        verify(bookingRepository).findLastBookingForItem(itemId);
-        verify(bookingRepository).findNextBookingForItem(itemId);
+        verify(bookingRepository).findLastBookingForItem(eq(itemId), any(PageRequest.class));
+        verify(bookingRepository).findNextBookingForItem(eq(itemId), any(PageRequest.class));
     }
 
     @Test
@@ -163,15 +164,15 @@ class ItemServiceImplTest {
                 new ArrayList<>());
         when(commentRepository.findAllByItemId(itemId)).thenReturn(Collections.emptyList());
         when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
-        when(bookingRepository.findLastBookingForItem(itemId)).thenReturn(List.of(last));
-        when(bookingRepository.findNextBookingForItem(itemId)).thenReturn(Collections.emptyList());
+        when(bookingRepository.findLastBookingForItem(eq(itemId), any(PageRequest.class))).thenReturn(List.of(BookingMapper.toBookingResponseShort(last)));
+        when(bookingRepository.findNextBookingForItem(eq(itemId), any(PageRequest.class))).thenReturn(Collections.emptyList());
 
         ItemDtoOut response = itemServiceImpl.getItemDtoByIdForAll(itemId, userId);
 
         assertEquals(itemOut, response);
         verify(commentRepository).findAllByItemId(itemId);
-        verify(bookingRepository).findLastBookingForItem(itemId);
-        verify(bookingRepository).findNextBookingForItem(itemId);
+        verify(bookingRepository).findLastBookingForItem(eq(itemId), any(PageRequest.class));
+        verify(bookingRepository).findNextBookingForItem(eq(itemId), any(PageRequest.class));
     }
 
     @Test
@@ -210,6 +211,39 @@ class ItemServiceImplTest {
         verify(itemRepository).findAllByOwnerIdOrderByIdAsc(eq(userId), any(PageRequest.class));
     }
 
+    @Test
+    void getAllUserItemsDto_whenItemsHaveBookings_thenBookingsLoadedInBatch() {
+        long userId = 1L;
+        int from = 0;
+        int size = 10;
+        Item item1 =
+                new Item(1L, "Садовая тачка", "Возит сама", true, new User(), null);
+        Item item2 =
+                new Item(2L, "Самокат", "Возит сам", true, new User(), null);
+        User booker = new User(3L, "booker", "booker@yandex.ru");
+        Booking last = new Booking(1L, LocalDateTime.now().minusSeconds(2), LocalDateTime.now().minusSeconds(1),
+                item1, booker, BookingStatus.APPROVED);
+        Booking next = new Booking(2L, LocalDateTime.now().plusSeconds(1), LocalDateTime.now().plusSeconds(2),
+                item1, booker, BookingStatus.APPROVED);
+        Booking nextWithoutLast = new Booking(3L, LocalDateTime.now().plusSeconds(3),
+                LocalDateTime.now().plusSeconds(4), item2, booker, BookingStatus.APPROVED);
+        when(itemRepository.findAllByOwnerIdOrderByIdAsc(eq(userId), any(PageRequest.class)))
+                .thenReturn(List.of(item1, item2));
+        when(bookingRepository.findLastBookingsForItems(List.of(1L, 2L))).thenReturn(List.of(last));
+        when(bookingRepository.findNextBookingsForItems(List.of(1L, 2L))).thenReturn(List.of(next, nextWithoutLast));
+
+        List<ItemDtoOut> response = itemServiceImpl.getAllUserItemsDto(userId, from, size);
+
+        assertEquals(BookingMapper.toBookingResponseShort(last), response.get(0).getLastBooking());
+        assertEquals(BookingMapper.toBookingResponseShort(next), response.get(0).getNextBooking());
+        assertNull(response.get(1).getLastBooking());
+        assertNull(response.get(1).getNextBooking());
+        verify(bookingRepository).findLastBookingsForItems(List.of(1L, 2L));
+        verify(bookingRepository).findNextBookingsForItems(List.of(1L, 2L));
+        verify(bookingRepository, never()).findLastBookingForItem(anyLong(), any(PageRequest.class));
+        verify(bookingRepository, never()).findNextBookingForItem(anyLong(), any(PageRequest.class));
+    }
+
     @Test
     void searchItemDtoByText_whenItemWithTextFound_thenResponseContainsItemDtoOutInBody() {
         String text = "example";
@@ -296,14 +330,13 @@ class ItemServiceImplTest {
         Item updatedItem = new Item(1L, "Супер тачка",
                 "Теперь это робот", false, user, null);
 
-        when(userService.getUserResponseById(userId)).thenReturn(new UserResponse());
         when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
         when(itemRepository.save(item)).thenReturn(updatedItem);
 
         ItemDtoOut itemDtoOut = itemServiceImpl.updateItem(userId, itemId, updateItemDtoIn);
 
         assertEquals(ItemMapper.toItemDtoOut(item), itemDtoOut);
-        verify(userService).getUserResponseById(userId);
+        verify(userService).checkUserExists(userId);
         verify(itemRepository).findById(itemId);
         verify(itemRepository).save(item);
     }
@@ -319,14 +352,13 @@ class ItemServiceImplTest {
         Item updatedItem = new Item(1L, "Садовая тачка",
                 "Возит сама", true, user, null);
 
-        when(userService.getUserResponseById(userId)).thenReturn(new UserResponse());
         when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
         when(itemRepository.save(item)).thenReturn(updatedItem);
 
         ItemDtoOut itemDtoOut = itemServiceImpl.updateItem(userId, itemId, updateItemDtoIn);
 
         assertEquals(ItemMapper.toItemDtoOut(item), itemDtoOut);
-        verify(userService).getUserResponseById(userId);
+        verify(userService).checkUserExists(userId);
         verify(itemRepository).findById(itemId);
         verify(itemRepository).save(item);
     }
@@ -403,4 +435,14 @@ class ItemServiceImplTest {
         assertThrows(ItemNotFoundException.class, () -> itemServiceImpl.getItemById(itemId));
         verify(itemRepository).findById(itemId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getItemsByIds_whenInvoked_thenItemsLoadedByOneQuery() {
+        Set<Long> itemIds = Set.of(1L, 2L);
+        List<Item> items = List.of(new Item(1L, "Садовая тачка", "Возит сама", true));
+        when(itemRepository.findAllById(itemIds)).thenReturn(items);
+
+        assertEquals(items, itemServiceImpl.getItemsByIds(itemIds));
+        verify(itemRepository).findAllById(itemIds);
+    }
+}
@@ -0,0 +1,182 @@
+package ru.practicum.shareit.metrics;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.comments.CommentRepository;
+import ru.practicum.shareit.comments.model.Comment;
+import ru.practicum.shareit.enums.BookingStatus;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+ * Бюджеты SQL-запросов из application.properties в режиме FAIL: лишний запрос или N+1 превращается в ответ 500
+ */
+@SpringBootTest(properties = {
+        "shareit.sql.mode=fail",
+        "shareit.sql.budgets[GET\\ /bookings/{bookingId}]=1"
+})
+@AutoConfigureMockMvc
+class SqlStatementBudgetTest {
+
+    private static final int ITEMS = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    private User owner;
+
+    private User booker;
+
+    private Booking lastBooking;
+
+    @BeforeEach
+    void init() {
+        owner = userRepository.save(new User("owner", "owner@budget.ru"));
+        booker = userRepository.save(new User("booker", "booker@budget.ru"));
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ITEMS; i++) {
+            ItemRequest itemRequest = itemRequestRepository.save(ItemRequest.builder()
+                    .description("Нужна дрель " + i)
+                    .requester(booker)
+                    .created(now)
+                    .build());
+            Item item = itemRepository.save(Item.builder()
+                    .name("Дрель " + i)
+                    .description("Чтобы сверлить")
+                    .available(true)
+                    .owner(owner)
+                    .request(itemRequest)
+                    .build());
+            lastBooking = bookingRepository.save(Booking.builder()
+                    .start(now.minusDays(2))
+                    .end(now.minusDays(1))
+                    .item(item)
+                    .booker(booker)
+                    .status(BookingStatus.APPROVED)
+                    .build());
+            bookingRepository.save(Booking.builder()
+                    .start(now.plusDays(1))
+                    .end(now.plusDays(2))
+                    .item(item)
+                    .booker(booker)
+                    .status(BookingStatus.WAITING)
+                    .build());
+            commentRepository.save(Comment.builder()
+                    .text("Сверлит отлично")
+                    .item(item)
+                    .author(booker)
+                    .created(now)
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void clear() {
+        commentRepository.deleteAll();
+        bookingRepository.deleteAll();
+        itemRepository.deleteAll();
+        itemRequestRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @SneakyThrows
+    @Test
+    void getAllUserItems_whenOwnerHasManyItems_thenWithinBudget() {
+        mockMvc.perform(get("/items")
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .param("size", String.valueOf(ITEMS)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(ITEMS)));
+    }
+
+    @SneakyThrows
+    @Test
+    void getItemById_whenOwnerRequests_thenWithinBudget() {
+        mockMvc.perform(get("/items/{itemId}", lastBooking.getItem().getId())
+                        .header("X-Sharer-User-Id", owner.getId()))
+                .andExpect(status().isOk());
+    }
+
+    @SneakyThrows
+    @Test
+    void getAllOwnerBookings_whenOwnerHasManyBookings_thenWithinBudget() {
+        mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .param("size", String.valueOf(ITEMS * 2)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(ITEMS * 2)));
+    }
+
+    @SneakyThrows
+    @Test
+    void getAllUserBookings_whenBookerHasManyBookings_thenWithinBudget() {
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", booker.getId())
+                        .param("size", String.valueOf(ITEMS * 2)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(ITEMS * 2)));
+    }
+
+    @SneakyThrows
+    @Test
+    void getAllUserItemRequest_whenRequesterHasManyRequests_thenWithinBudget() {
+        mockMvc.perform(get("/requests")
+                        .header("X-Sharer-User-Id", booker.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(ITEMS)))
+                .andExpect(jsonPath("$[0].items", hasSize(1)));
+    }
+
+    @SneakyThrows
+    @Test
+    void getAllItemRequest_whenOtherUsersHaveManyRequests_thenWithinBudget() {
+        mockMvc.perform(get("/requests/all")
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .param("size", String.valueOf(ITEMS)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(ITEMS)))
+                .andExpect(jsonPath("$[0].items", hasSize(1)));
+    }
+
+    @SneakyThrows
+    @Test
+    void getBookingById_whenBudgetExceeded_thenInternalServerError() {
+        mockMvc.perform(get("/bookings/{bookingId}", lastBooking.getId())
+                        .header("X-Sharer-User-Id", booker.getId()))
+                .andExpect(status().isInternalServerError());
+    }
+}
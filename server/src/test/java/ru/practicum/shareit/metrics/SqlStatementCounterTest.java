@@ -0,0 +1,108 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.exception.SqlStatementBudgetException;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SqlStatementCounterTest {
+
+    private static final String ITEMS_BY_REQUEST = "select * from items i\n    where i.request_id=?";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final SqlStatementProperties properties = new SqlStatementProperties();
+
+    private final SqlStatementCounter counter = new SqlStatementCounter(properties, meterRegistry);
+
+    @AfterEach
+    void finish() {
+        counter.finish();
+    }
+
+    @Test
+    void inspect_whenSameShapeRepeated_thenNPlusOneReportedOnce() {
+        properties.setRepeatThreshold(3);
+        counter.start("GET", "/requests/all");
+
+        for (int i = 0; i < 5; i++) {
+            counter.inspect(ITEMS_BY_REQUEST);
+        }
+
+        assertEquals(1, violations("n_plus_one", "/requests/all"));
+        assertEquals(5, counter.finish());
+    }
+
+    @Test
+    void inspect_whenBudgetExceededInWarnMode_thenViolationCountedOnce() {
+        properties.setBudgets(Map.of("GET /bookings/owner", 2));
+        counter.start("GET", "/bookings/owner");
+
+        counter.inspect("select * from users where id=?");
+        counter.inspect("select * from bookings where owner_id=?");
+        counter.inspect("select * from items where id=?");
+        counter.inspect("select * from items where owner_id=?");
+
+        assertEquals(1, violations("budget", "/bookings/owner"));
+    }
+
+    @Test
+    void inspect_whenBudgetSetForOtherMethod_thenDefaultBudgetApplied() {
+        properties.setMode(SqlStatementProperties.Mode.FAIL);
+        properties.setBudgets(Map.of("GET /bookings/{bookingId}", 1));
+        counter.start("PATCH", "/bookings/{bookingId}");
+
+        counter.inspect("select * from bookings where id=?");
+        counter.inspect("update bookings set status=? where id=?");
+
+        assertEquals(2, counter.finish());
+        counter.start("GET", "/bookings/{bookingId}");
+        counter.inspect("select * from bookings where id=?");
+        assertThrows(SqlStatementBudgetException.class, () -> counter.inspect("select * from items where id=?"));
+    }
+
+    @Test
+    void inspect_whenBudgetExceededInFailMode_thenExceptionThrown() {
+        properties.setMode(SqlStatementProperties.Mode.FAIL);
+        properties.setDefaultBudget(1);
+        counter.start("GET", "/items");
+
+        counter.inspect("select * from users where id=?");
+
+        assertThrows(SqlStatementBudgetException.class, () -> counter.inspect("select * from items where owner_id=?"));
+    }
+
+    @Test
+    void inspect_whenModeOff_thenStatementsCountedWithoutViolations() {
+        properties.setMode(SqlStatementProperties.Mode.OFF);
+        properties.setDefaultBudget(1);
+        counter.start("GET", "/items");
+
+        counter.inspect(ITEMS_BY_REQUEST);
+        counter.inspect(ITEMS_BY_REQUEST);
+
+        assertNull(meterRegistry.find(SqlStatementCounter.VIOLATIONS_METRIC_NAME).counter());
+        assertEquals(2, counter.finish());
+    }
+
+    @Test
+    void shape_whenWhitespaceAndInListsDiffer_thenShapesEqual() {
+        assertEquals(SqlStatementCounter.shape("select * from items where id in (?, ?, ?)"),
+                SqlStatementCounter.shape("select *\n  from items where id in (?)"));
+    }
+
+    private double violations(String type, String uri) {
+        return meterRegistry.get(SqlStatementCounter.VIOLATIONS_METRIC_NAME)
+                .tag("type", type)
+                .tag("method", "GET")
+                .tag("uri", uri)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlStatementMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final SqlStatementCounter counter = new SqlStatementCounter(new SqlStatementProperties(), meterRegistry);
+
+    private final SqlStatementMetricsInterceptor interceptor = new SqlStatementMetricsInterceptor(meterRegistry, counter);
+
+    @Test
+    void afterCompletion_whenStatementsPrepared_thenCountRecordedForUriPattern() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/bookings/owner");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/bookings/owner");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        counter.inspect("select * from bookings");
+        counter.inspect("select * from items");
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        DistributionSummary summary = meterRegistry.get(SqlStatementMetricsInterceptor.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/bookings/owner")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(2, summary.totalAmount());
+    }
+
+    @Test
+    void inspect_whenOutsideRequest_thenStatementNotCountedAndSqlUnchanged() {
+        String sql = "select * from users";
+
+        assertEquals(sql, counter.inspect(sql));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/users");
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+
+        DistributionSummary summary = meterRegistry.get(SqlStatementMetricsInterceptor.METRIC_NAME)
+                .tag("uri", "UNKNOWN")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(0, summary.totalAmount());
+    }
+}
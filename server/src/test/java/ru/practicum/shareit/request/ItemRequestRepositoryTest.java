@@ -1,10 +1,12 @@
 package ru.practicum.shareit.request;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.UserRepository;
@@ -13,6 +15,7 @@ import ru.practicum.shareit.user.model.User;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
 class ItemRequestRepositoryTest {
@@ -23,6 +26,9 @@ class ItemRequestRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private User user1;
 
     @BeforeEach
@@ -66,4 +72,15 @@ class ItemRequestRepositoryTest {
         assertEquals(1, itemRequestList.size());
         assertEquals("Нужны рыбки", itemRequestList.get(0).getDescription());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findAllByRequesterIdNotOrderByCreatedDesc_whenLoaded_thenRequesterFetchedWithRequest() {
+        entityManager.clear();
+
+        List<ItemRequest> itemRequestList = itemRequestRepository
+                .findAllByRequesterIdNotOrderByCreatedDesc(PageRequest.of(0, 5), user1.getId());
+
+        assertEquals(1, itemRequestList.size());
+        assertTrue(Hibernate.isInitialized(itemRequestList.get(0).getRequester()));
+    }
+}
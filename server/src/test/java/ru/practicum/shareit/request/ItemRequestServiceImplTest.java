@@ -8,6 +8,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.exception.ItemRequestNotFoundException;
 import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.mapper.ItemRequestMapper;
 import ru.practicum.shareit.request.dto.ItemRequestRequest;
 import ru.practicum.shareit.request.dto.ItemRequestResponse;
@@ -24,6 +25,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -48,13 +50,12 @@ class ItemRequestServiceImplTest {
         ItemRequest itemRequest1 = new ItemRequest(1L, "Нужен аквариум", new User(), LocalDateTime.now());
         ItemRequest itemRequest2 = new ItemRequest(2L, "Нужны рыбки", new User(), LocalDateTime.now());
         List<ItemRequest> itemRequestList = List.of(itemRequest1, itemRequest2);
-        when(userService.getUserById(userId)).thenReturn(null);
         when(itemRequestRepository.findAllByRequesterIdOrderByCreatedDesc(userId)).thenReturn(itemRequestList);
 
         List<ItemRequestResponse> requestDtoOutList = itemRequestServiceImpl.getAllUserItemRequest(userId);
 
         assertEquals(ItemRequestMapper.toItemRequestResponseList(itemRequestList), requestDtoOutList);
-        verify(userService).getUserById(userId);
+        verify(userService).checkUserExists(userId);
         verify(itemRequestRepository).findAllByRequesterIdOrderByCreatedDesc(userId);
     }
 
@@ -66,14 +67,13 @@ class ItemRequestServiceImplTest {
         ItemRequest itemRequest1 = new ItemRequest(1L, "Нужен аквариум", new User(), LocalDateTime.now());
         ItemRequest itemRequest2 = new ItemRequest(2L, "Нужны рыбки", new User(), LocalDateTime.now());
         List<ItemRequest> itemRequestList = List.of(itemRequest1, itemRequest2);
-        when(userService.getUserById(userId)).thenReturn(null);
         when(itemRequestRepository.findAllByRequesterIdNotOrderByCreatedDesc(any(PageRequest.class), eq(userId)))
                 .thenReturn(itemRequestList);
 
         List<ItemRequestResponse> requestDtoOutList = itemRequestServiceImpl.getAllItemRequest(userId, from, size);
 
         assertEquals(ItemRequestMapper.toItemRequestResponseList(itemRequestList), requestDtoOutList);
-        verify(userService).getUserById(userId);
+        verify(userService).checkUserExists(userId);
         verify(itemRequestRepository).findAllByRequesterIdNotOrderByCreatedDesc(any(PageRequest.class), eq(userId));
     }
 
@@ -85,17 +85,49 @@ class ItemRequestServiceImplTest {
         ItemRequest itemRequest1 = new ItemRequest(1L, "Нужен аквариум", new User(), LocalDateTime.now());
         ItemRequest itemRequest2 = new ItemRequest(2L, "Нужны рыбки", new User(), LocalDateTime.now());
         List<ItemRequest> itemRequestList = List.of(itemRequest1, itemRequest2);
-        when(userService.getUserById(userId)).thenReturn(null);
         when(itemRequestRepository.findAllByRequesterIdNotOrderByCreatedDesc(any(PageRequest.class), eq(userId)))
                 .thenReturn(itemRequestList);
 
         List<ItemRequestResponse> requestDtoOutList = itemRequestServiceImpl.getAllItemRequest(userId, from, size);
 
         assertEquals(ItemRequestMapper.toItemRequestResponseList(itemRequestList), requestDtoOutList);
-        verify(userService).getUserById(userId);
+        verify(userService).checkUserExists(userId);
         verify(itemRequestRepository).findAllByRequesterIdNotOrderByCreatedDesc(any(PageRequest.class), eq(userId));
     }
 
+    @Test
+    void getAllItemRequest_whenSeveralRequests_thenItemsLoadedByOneQueryAndGroupedByRequest() {
+        long userId = 1L;
+        ItemRequest itemRequest1 = new ItemRequest(1L, "Нужен аквариум", new User(), LocalDateTime.now());
+        ItemRequest itemRequest2 = new ItemRequest(2L, "Нужны рыбки", new User(), LocalDateTime.now());
+        ItemRequest itemRequest3 = new ItemRequest(3L, "Нужен корм", new User(), LocalDateTime.now());
+        Item aquarium = Item.builder().id(1L).name("Аквариум").owner(new User()).request(itemRequest1).build();
+        Item fish = Item.builder().id(2L).name("Рыбки").owner(new User()).request(itemRequest2).build();
+        Item bigFish = Item.builder().id(3L).name("Большие рыбки").owner(new User()).request(itemRequest2).build();
+        when(itemRequestRepository.findAllByRequesterIdNotOrderByCreatedDesc(any(PageRequest.class), eq(userId)))
+                .thenReturn(List.of(itemRequest1, itemRequest2, itemRequest3));
+        when(itemRepository.findByRequestIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(aquarium, fish, bigFish));
+
+        List<ItemRequestResponse> requestDtoOutList = itemRequestServiceImpl.getAllItemRequest(userId, 0, 5);
+
+        assertEquals(1, requestDtoOutList.get(0).getItems().size());
+        assertEquals(2, requestDtoOutList.get(1).getItems().size());
+        assertEquals(0, requestDtoOutList.get(2).getItems().size());
+        verify(itemRepository).findByRequestIdIn(List.of(1L, 2L, 3L));
+        verify(itemRepository, never()).findByRequestIdOrderByRequestCreatedDesc(anyLong());
+    }
+
+    @Test
+    void getAllUserItemRequest_whenNoRequests_thenItemsNotQueried() {
+        long userId = 1L;
+        when(itemRequestRepository.findAllByRequesterIdOrderByCreatedDesc(userId)).thenReturn(Collections.emptyList());
+
+        List<ItemRequestResponse> requestDtoOutList = itemRequestServiceImpl.getAllUserItemRequest(userId);
+
+        assertEquals(0, requestDtoOutList.size());
+        verify(itemRepository, never()).findByRequestIdIn(anyCollection());
+    }
+
     @Test
     void getItemRequestById_whenItemRequestFound_thenResponseContainsItemRequest() {
         long requestId = 1L;
@@ -126,14 +158,13 @@ class ItemRequestServiceImplTest {
         ItemRequest itemRequest = new ItemRequest(1L, "Нужен аквариум", new User(), localDateTime);
         ItemRequestResponse itemRequestResponse = new ItemRequestResponse(1L, "Нужен аквариум", new UserResponse(),
                 localDateTime, Collections.emptyList());
-        when(userService.getUserById(userId)).thenReturn(new User());
         when(itemRequestRepository.findById(requestId)).thenReturn(Optional.of(itemRequest));
         when(itemRepository.findByRequestIdOrderByRequestCreatedDesc(anyLong())).thenReturn(Collections.emptyList());
 
         ItemRequestResponse requestDtoOut = itemRequestServiceImpl.getItemRequestResponseById(requestId, userId);
 
         assertEquals(itemRequestResponse, requestDtoOut);
-        verify(userService).getUserById(userId);
+        verify(userService).checkUserExists(userId);
         verify(itemRequestRepository).findById(requestId);
         verify(itemRepository).findByRequestIdOrderByRequestCreatedDesc(anyLong());
     }
@@ -0,0 +1,120 @@
+package ru.practicum.shareit.user;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserIdSetTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private final UserIdSet userIdSet = new UserIdSet(userRepository);
+
+    @Test
+    void refresh_whenUsersLoaded_thenOnlyTheirIdsContained() {
+        when(userRepository.findAllIds()).thenReturn(List.of(1L, 63L, 64L, 1000L));
+
+        userIdSet.refresh();
+
+        assertTrue(userIdSet.contains(1L));
+        assertTrue(userIdSet.contains(63L));
+        assertTrue(userIdSet.contains(64L));
+        assertTrue(userIdSet.contains(1000L));
+        assertFalse(userIdSet.contains(2L));
+        assertFalse(userIdSet.contains(1001L));
+        assertFalse(userIdSet.contains(-1L));
+        assertFalse(userIdSet.contains(Long.MAX_VALUE));
+    }
+
+    @Test
+    void add_whenIdBeyondCapacity_thenSetGrowsAndKeepsIds() {
+        userIdSet.add(5L);
+        userIdSet.add(100_000L);
+        userIdSet.add(-5L);
+
+        assertTrue(userIdSet.contains(5L));
+        assertTrue(userIdSet.contains(100_000L));
+        assertFalse(userIdSet.contains(-5L));
+
+        userIdSet.remove(5L);
+        userIdSet.remove(7L);
+        userIdSet.remove(Long.MAX_VALUE);
+        assertFalse(userIdSet.contains(5L));
+        assertTrue(userIdSet.contains(100_000L));
+    }
+
+    @Test
+    void addAfterCommit_whenInTransaction_thenAppliedOnlyAfterCommit() {
+        userIdSet.add(2L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userIdSet.addAfterCommit(1L, userIdSet.removals());
+            userIdSet.removeAfterCommit(2L);
+            assertFalse(userIdSet.contains(1L));
+            assertTrue(userIdSet.contains(2L));
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(userIdSet.contains(1L));
+        assertFalse(userIdSet.contains(2L));
+    }
+
+    @Test
+    void refresh_whenIdsChangedWhileLoading_thenChangesAppliedToLoadedSet() throws InterruptedException {
+        userIdSet.add(1L);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch changed = new CountDownLatch(1);
+        when(userRepository.findAllIds()).thenAnswer(invocation -> {
+            loading.countDown();
+            assertTrue(changed.await(5, TimeUnit.SECONDS));
+            return List.of(1L, 2L);
+        });
+        Thread refresher = new Thread(userIdSet::refresh);
+        refresher.start();
+
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        userIdSet.remove(1L);
+        userIdSet.add(3L);
+        changed.countDown();
+        refresher.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertFalse(refresher.isAlive());
+        assertFalse(userIdSet.contains(1L));
+        assertTrue(userIdSet.contains(2L));
+        assertTrue(userIdSet.contains(3L));
+
+        userIdSet.remove(2L);
+        assertFalse(userIdSet.contains(2L));
+    }
+
+    @Test
+    void checkUserExists_whenUserDeletedAfterExistsRead_thenIdNotAddedBack() {
+        UserServiceImpl userService = new UserServiceImpl(userRepository, userIdSet);
+        when(userRepository.existsById(1L)).thenAnswer(invocation -> {
+            userIdSet.removeAfterCommit(1L);
+            return true;
+        });
+
+        userService.checkUserExists(1L);
+
+        assertFalse(userIdSet.contains(1L));
+        assertEquals(1, userIdSet.removals());
+
+        when(userRepository.existsById(2L)).thenReturn(true);
+        userService.checkUserExists(2L);
+        assertTrue(userIdSet.contains(2L));
+    }
+}
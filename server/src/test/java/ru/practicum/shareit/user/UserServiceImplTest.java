@@ -2,6 +2,7 @@ package ru.practicum.shareit.user;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -17,7 +18,11 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +31,9 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserIdSet userIdSet;
+
     @InjectMocks
     private UserServiceImpl userServiceImpl;
 
@@ -62,6 +70,37 @@ class UserServiceImplTest {
         verify(userRepository).findById(userId);
     }
 
+    @Test
+    void checkUserExists_whenIdInSet_thenRepositoryNotQueried() {
+        when(userIdSet.contains(1L)).thenReturn(true);
+
+        userServiceImpl.checkUserExists(1L);
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void checkUserExists_whenIdMissingButUserInDatabase_thenIdAdded() {
+        when(userIdSet.removals()).thenReturn(3L);
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        userServiceImpl.checkUserExists(1L);
+
+        InOrder inOrder = inOrder(userIdSet, userRepository);
+        inOrder.verify(userIdSet).removals();
+        inOrder.verify(userRepository).existsById(1L);
+        inOrder.verify(userIdSet).addAfterCommit(1L, 3L);
+    }
+
+    @Test
+    void checkUserExists_whenUserNotFound_thenUserNotFoundExceptionThrown() {
+        when(userRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(UserNotFoundException.class, () -> userServiceImpl.checkUserExists(1L));
+
+        verify(userIdSet, never()).addAfterCommit(anyLong(), anyLong());
+    }
+
     @Test
     void getUserDtoById_whenUserExist_thenResponseContainsUserDto() {
         long userId = 1L;
@@ -77,14 +116,15 @@ class UserServiceImplTest {
     @Test
     void createUser_whenInvoked_thenUserCreate() {
         UserRequest userRequest = new UserRequest();
-        UserResponse userResponse = new UserResponse();
-        User user = new User();
+        UserResponse userResponse = new UserResponse(1L, null, null);
+        User user = new User(1L, null, null);
         when(userRepository.save(any(User.class))).thenReturn(user);
 
         UserResponse response = userServiceImpl.createUser(userRequest);
 
         assertEquals(userResponse, response);
         verify(userRepository).save(any(User.class));
+        verify(userIdSet).addAfterCommit(1L, 0L);
     }
 
     @Test
@@ -125,6 +165,7 @@ class UserServiceImplTest {
 
         userServiceImpl.deleteUser(userId);
 
-        verify(userRepository).deleteById(userId);
+        verify(userRepository).deleteUserById(userId);
+        verify(userIdSet).removeAfterCommit(userId);
     }
 }
\ No newline at end of file